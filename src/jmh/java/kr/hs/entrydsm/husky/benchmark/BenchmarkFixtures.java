@@ -0,0 +1,153 @@
+package kr.hs.entrydsm.husky.benchmark;
+
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.GraduatedApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.CalculatedScoreJdbcRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.CalculatedScoreRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeCalcServiceImpl;
+import kr.hs.entrydsm.husky.domain.ranking.service.RankingService;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.ApplyType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.GradeType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+// Seeded fixtures, so every run and every fork measures the same inputs.
+public class BenchmarkFixtures {
+
+    public static final int APPLICANT_COUNT = 1024;
+
+    private static final long SEED = 20201018L;
+    private static final char[] GRADES = {'A', 'B', 'C', 'D', 'E', 'X'};
+    // 1x1 PNG; an empty photo makes html2pdf log an error on every render.
+    private static final String PHOTO = "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8AAAAASUVORK5CYII=";
+
+    private BenchmarkFixtures() {
+    }
+
+    // Korean always has a grade, so no semester is empty and GradeUtil.getScore never divides by zero.
+    public static List<ApplicantSnapshot> generalApplicants() {
+        Random random = new Random(SEED);
+        List<ApplicantSnapshot> snapshots = new ArrayList<>(APPLICANT_COUNT);
+
+        for (int receiptCode = 1; receiptCode <= APPLICANT_COUNT; receiptCode++) {
+            User user = User.builder()
+                    .receiptCode(receiptCode)
+                    .gradeType(random.nextBoolean() ? GradeType.GRADUATED : GradeType.UNGRADUATED)
+                    .applyType(ApplyType.values()[random.nextInt(ApplyType.values().length)])
+                    .isDaejeon(random.nextBoolean())
+                    .build();
+            GraduatedApplication application = GraduatedApplication.graduatedApplicationBuilder()
+                    .receiptCode(receiptCode)
+                    .volunteerTime(random.nextInt(61))
+                    .fullCutCount(random.nextInt(3))
+                    .periodCutCount(random.nextInt(3))
+                    .lateCount(random.nextInt(6))
+                    .earlyLeaveCount(random.nextInt(3))
+                    .korean(randomGrades(random, 5))
+                    .social(randomGrades(random, 6))
+                    .history(randomGrades(random, 6))
+                    .math(randomGrades(random, 6))
+                    .science(randomGrades(random, 6))
+                    .techAndHome(randomGrades(random, 6))
+                    .english(randomGrades(random, 6))
+                    .build();
+            snapshots.add(ApplicantSnapshot.ofGeneral(user, application));
+        }
+        return snapshots;
+    }
+
+    // The stored score is never found, so calcStudentGrade always takes the write path.
+    public static GradeCalcServiceImpl gradeCalcService(boolean fixedPoint) {
+        CalculatedScoreRepository calculatedScoreRepository = stub(CalculatedScoreRepository.class);
+        CalculatedScoreJdbcRepository calculatedScoreJdbcRepository = new CalculatedScoreJdbcRepository(null, null) {
+            @Override
+            public Optional<CalculatedScore> findByReceiptCode(Integer receiptCode) {
+                return Optional.empty();
+            }
+        };
+
+        GradeCalcServiceImpl gradeCalcService = new GradeCalcServiceImpl(calculatedScoreRepository,
+                calculatedScoreJdbcRepository, null, stub(RankingService.class));
+        setField(gradeCalcService, "fixedPointEnabled", fixedPoint);
+        return gradeCalcService;
+    }
+
+    public static Map<String, Object> applicationData() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("receiptCode", "100001");
+        data.put("userName", "홍길동");
+        data.put("gender", "남");
+        data.put("birthDate", "2005년 03월 14일");
+        data.put("address", "대전광역시 유성구 가정북로 76");
+        data.put("detailAddress", "대덕소프트웨어마이스터고등학교");
+        data.put("applicantTel", "010-1234-5678");
+        data.put("parentTel", "010-8765-4321");
+        data.put("homeTel", "042-866-8822");
+        data.put("parentName", "홍판서");
+        data.put("schoolName", "대덕중학교");
+        data.put("schoolCode", "7031123");
+        data.put("schoolClass", "3");
+        data.put("schoolTel", "042-123-4567");
+        data.put("graduatedYear", "2021");
+        data.put("graduatedMonth", "2");
+        data.put("unGraduatedMonth", "2");
+        data.put("gedPassedYear", "");
+        data.put("gedPassedMonth", "");
+        data.put("conversionScore1st", "54.000");
+        data.put("conversionScore2nd", "49.500");
+        data.put("conversionScore3rd", "57.600");
+        data.put("conversionScore", "161.100");
+        data.put("attendanceScore", "15");
+        data.put("volunteerScore", "13.000");
+        data.put("finalScore", "189.100");
+        data.put("year", "2020");
+        data.put("month", "10");
+        data.put("day", "18");
+        data.put("selfIntroduction", "소프트웨어 개발자가 되고 싶습니다. ".repeat(40));
+        data.put("studyPlan", "입학 후에는 알고리즘과 웹 개발을 공부하겠습니다. ".repeat(40));
+        data.put("base64Image", PHOTO);
+        List.of("isMale", "isGraduated", "isCommon", "isDaejeon")
+                .forEach(key -> data.put(key, "☑"));
+        List.of("isFemale", "isUnGraduated", "isGed", "isMeister", "isSocialMerit", "isNotDaejeon",
+                "isNationalMerit", "isPrivilegedAdmission",
+                "isDaejeonAndMeister", "isDaejeonAndSocialMerit", "isNotDaejeonAndMeister", "isNotDaejeonAndSocialMerit")
+                .forEach(key -> data.put(key, "☐"));
+        data.put("newLineChar", "\n");
+        return data;
+    }
+
+    public static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String randomGrades(Random random, int bound) {
+        char[] grades = new char[6];
+        for (int semester = 0; semester < grades.length; semester++) {
+            grades[semester] = GRADES[random.nextInt(bound)];
+        }
+        return new String(grades);
+    }
+
+    // save returns its argument and everything else does nothing, like a repository that always succeeds.
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals("save"))
+                return args[0];
+            if (method.getReturnType() == boolean.class)
+                return false;
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,52 @@
+package kr.hs.entrydsm.husky.benchmark;
+
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
+import kr.hs.entrydsm.husky.domain.grade.util.GradeUtil;
+import kr.hs.entrydsm.husky.domain.grade.value.GradeMatrix;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static kr.hs.entrydsm.husky.domain.grade.constant.Semester.SEMESTER_1_1;
+import static kr.hs.entrydsm.husky.domain.grade.constant.Semester.SEMESTER_3_2;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradeBenchmark {
+
+    private List<ApplicantSnapshot> applicants;
+    private GradeMatrix[] matrices;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        applicants = BenchmarkFixtures.generalApplicants();
+        matrices = applicants.stream()
+                .map(snapshot -> new GradeMatrix(snapshot.getGeneralApplication()))
+                .toArray(GradeMatrix[]::new);
+    }
+
+    @Benchmark
+    public GradeMatrix gradeMatrix() {
+        return new GradeMatrix(nextApplicant().getGeneralApplication());
+    }
+
+    @Benchmark
+    public BigDecimal gradeUtilGetScore() {
+        ApplicantSnapshot applicant = nextApplicant();
+        return new GradeUtil(applicant.getUser(), matrices[index])
+                .getScore(SEMESTER_1_1, SEMESTER_3_2);
+    }
+
+    private ApplicantSnapshot nextApplicant() {
+        index = (index + 1) & (BenchmarkFixtures.APPLICANT_COUNT - 1);
+        return applicants.get(index);
+    }
+
+}
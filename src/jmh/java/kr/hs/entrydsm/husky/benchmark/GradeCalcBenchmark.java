@@ -0,0 +1,39 @@
+package kr.hs.entrydsm.husky.benchmark;
+
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeCalcServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Whole calcStudentGrade with stubbed repositories, once per grade engine.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradeCalcBenchmark {
+
+    @Param({"true", "false"})
+    public boolean fixedPoint;
+
+    private List<ApplicantSnapshot> applicants;
+    private GradeCalcServiceImpl gradeCalcService;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        applicants = BenchmarkFixtures.generalApplicants();
+        gradeCalcService = BenchmarkFixtures.gradeCalcService(fixedPoint);
+    }
+
+    @Benchmark
+    public CalculatedScore calcStudentGrade() {
+        index = (index + 1) & (BenchmarkFixtures.APPLICANT_COUNT - 1);
+        return gradeCalcService.calcStudentGrade(applicants.get(index));
+    }
+
+}
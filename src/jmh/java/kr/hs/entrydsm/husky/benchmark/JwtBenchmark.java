@@ -0,0 +1,62 @@
+package kr.hs.entrydsm.husky.benchmark;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.global.config.security.JwtTokenCache;
+import kr.hs.entrydsm.husky.global.config.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET_KEY = "ZW50cnlkc20taHVza3ktYmVuY2htYXJrLXNlY3JldA==";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenProvider uncachedJwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = tokenProvider(10_000);
+        uncachedJwtTokenProvider = tokenProvider(0);
+        accessToken = jwtTokenProvider.generateAccessToken(100001);
+    }
+
+    private static JwtTokenProvider tokenProvider(long cacheSize) {
+        JwtTokenCache tokenCache = new JwtTokenCache(new SimpleMeterRegistry(), cacheSize);
+        return new JwtTokenProvider(tokenCache, SECRET_KEY, 3600L, 3600L, "Authorization", "Bearer");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(100001);
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return jwtTokenProvider.getAuthentication(jwtTokenProvider.parse(accessToken));
+    }
+
+    @Benchmark
+    public Authentication authenticateWithoutCache() {
+        return uncachedJwtTokenProvider.getAuthentication(uncachedJwtTokenProvider.parse(accessToken));
+    }
+
+    // What JwtTokenFilter did before tokens were parsed once: validate, then parse again for the subject,
+    // each time with a new parser decoding the Base64 secret.
+    @Benchmark
+    public String authenticateWithThreeParses() {
+        Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(accessToken).getBody().getSubject();
+        Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(accessToken).getBody().getSubject();
+        return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(accessToken).getBody().getSubject();
+    }
+
+}
@@ -0,0 +1,82 @@
+package kr.hs.entrydsm.husky.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.domain.pdf.config.PdfConfig;
+import kr.hs.entrydsm.husky.domain.pdf.constant.TemplateFileName;
+import kr.hs.entrydsm.husky.domain.pdf.converter.HtmlConverter;
+import kr.hs.entrydsm.husky.domain.pdf.processor.TemplateProcessor;
+import kr.hs.entrydsm.husky.domain.pdf.util.PdfStreamMerger;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfBenchmark {
+
+    private static final List<String> TEMPLATES = List.of(
+            TemplateFileName.APPLICATION_FOR_ADMISSION,
+            TemplateFileName.INTRODUCTION,
+            TemplateFileName.RECOMMENDATION,
+            TemplateFileName.NON_SMOKING,
+            TemplateFileName.ADMISSION_AGREEMENT);
+
+    @Param({
+            TemplateFileName.APPLICATION_FOR_ADMISSION,
+            TemplateFileName.INTRODUCTION,
+            TemplateFileName.RECOMMENDATION,
+            TemplateFileName.NON_SMOKING,
+            TemplateFileName.ADMISSION_AGREEMENT})
+    public String template;
+
+    private Map<String, Object> data;
+    private TemplateProcessor templateProcessor;
+    private HtmlConverter htmlConverter;
+    private String html;
+    private List<ByteArrayOutputStream> documents;
+
+    @Setup
+    public void setUp() {
+        PdfConfig pdfConfig = new PdfConfig(new SimpleMeterRegistry());
+        data = BenchmarkFixtures.applicationData();
+        templateProcessor = new TemplateProcessor(pdfConfig.getTemplateEngineBean());
+        htmlConverter = new HtmlConverter(pdfConfig.getPdfFontSetBean());
+        html = templateProcessor.process(template, data);
+
+        documents = new ArrayList<>();
+        for (String name : TEMPLATES) {
+            documents.add(htmlConverter.convertHtmlToPdf(templateProcessor.process(name, data)));
+        }
+    }
+
+    @Benchmark
+    public String processTemplate() {
+        return templateProcessor.process(template, data);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream convertHtmlToPdf() {
+        return htmlConverter.convertHtmlToPdf(html);
+    }
+
+    // Independent of the template parameter: merges the five rendered documents of one application.
+    @Benchmark
+    public ByteArrayOutputStream mergeApplication() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (PdfStreamMerger merger = new PdfStreamMerger(outputStream)) {
+            for (ByteArrayOutputStream document : documents) {
+                merger.append(document);
+            }
+        }
+        return outputStream;
+    }
+
+}
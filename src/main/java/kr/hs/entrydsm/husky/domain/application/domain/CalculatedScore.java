@@ -8,6 +8,7 @@ import javax.persistence.*;
 import javax.validation.constraints.Digits;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Getter
 @NoArgsConstructor
@@ -64,6 +65,22 @@ public class CalculatedScore {
         this.modifiedAt = LocalDateTime.now();
     }
 
+    public boolean hasSameScore(CalculatedScore other) {
+        return isSame(volunteerScore, other.volunteerScore)
+                && Objects.equals(attendanceScore, other.attendanceScore)
+                && isSame(conversionScore, other.conversionScore)
+                && isSame(finalScore, other.finalScore)
+                && isSame(firstGradeScore, other.firstGradeScore)
+                && isSame(secondGradeScore, other.secondGradeScore)
+                && isSame(thirdGradeScore, other.thirdGradeScore);
+    }
+
+    private boolean isSame(BigDecimal score, BigDecimal otherScore) {
+        if (score == null || otherScore == null)
+            return score == otherScore;
+        return score.compareTo(otherScore) == 0;
+    }
+
     public static CalculatedScore EMPTY(User user) {
         return CalculatedScore.builder()
                 .user(user)
@@ -0,0 +1,102 @@
+package kr.hs.entrydsm.husky.domain.application.domain.repositories;
+
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Set-based access to calculated_score for bulk recalculation, bypassing the persistence context.
+@Repository
+@RequiredArgsConstructor
+public class CalculatedScoreJdbcRepository {
+
+    private static final String SELECT_SQL = "SELECT user_receipt_code, created_at, modified_at, volunteer_score, " +
+            "attendance_score, conversion_score, final_score, first_grade_score, second_grade_score, third_grade_score " +
+            "FROM calculated_score WHERE user_receipt_code IN (:receiptCodes)";
+
+    private static final String SELECT_ONE_SQL = "SELECT user_receipt_code, created_at, modified_at, volunteer_score, " +
+            "attendance_score, conversion_score, final_score, first_grade_score, second_grade_score, third_grade_score " +
+            "FROM calculated_score WHERE user_receipt_code = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO calculated_score (volunteer_score, attendance_score, " +
+            "conversion_score, final_score, first_grade_score, second_grade_score, third_grade_score, " +
+            "modified_at, created_at, user_receipt_code) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL = "UPDATE calculated_score SET volunteer_score = ?, attendance_score = ?, " +
+            "conversion_score = ?, final_score = ?, first_grade_score = ?, second_grade_score = ?, " +
+            "third_grade_score = ?, modified_at = ? WHERE user_receipt_code = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Optional<CalculatedScore> findByReceiptCode(Integer receiptCode) {
+        return jdbcTemplate.query(SELECT_ONE_SQL, this::mapRow, receiptCode).stream().findFirst();
+    }
+
+    public Map<Integer, CalculatedScore> findAllByReceiptCodes(Collection<Integer> receiptCodes) {
+        if (receiptCodes.isEmpty())
+            return Map.of();
+
+        return namedParameterJdbcTemplate.query(SELECT_SQL, Map.of("receiptCodes", receiptCodes), this::mapRow)
+                .stream()
+                .collect(Collectors.toMap(CalculatedScore::getReceiptCode, Function.identity()));
+    }
+
+    @Transactional
+    public void saveAll(List<CalculatedScore> inserts, List<CalculatedScore> updates) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), (statement, score) -> {
+            setScores(statement, score);
+            statement.setTimestamp(9, Timestamp.valueOf(score.getCreatedAt()));
+            statement.setInt(10, score.getReceiptCode());
+        });
+        jdbcTemplate.batchUpdate(UPDATE_SQL, updates, updates.size(), (statement, score) -> {
+            setScores(statement, score);
+            statement.setInt(9, score.getReceiptCode());
+        });
+    }
+
+    private void setScores(PreparedStatement statement, CalculatedScore score) throws SQLException {
+        statement.setBigDecimal(1, score.getVolunteerScore());
+        statement.setInt(2, score.getAttendanceScore());
+        statement.setBigDecimal(3, score.getConversionScore());
+        statement.setBigDecimal(4, score.getFinalScore());
+        statement.setBigDecimal(5, score.getFirstGradeScore());
+        statement.setBigDecimal(6, score.getSecondGradeScore());
+        statement.setBigDecimal(7, score.getThirdGradeScore());
+        statement.setTimestamp(8, Timestamp.valueOf(score.getModifiedAt()));
+    }
+
+    private CalculatedScore mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+        return new CalculatedScore(
+                resultSet.getInt("user_receipt_code"),
+                toLocalDateTime(resultSet.getTimestamp("created_at")),
+                toLocalDateTime(resultSet.getTimestamp("modified_at")),
+                resultSet.getBigDecimal("volunteer_score"),
+                resultSet.getObject("attendance_score", Integer.class),
+                resultSet.getBigDecimal("conversion_score"),
+                resultSet.getBigDecimal("final_score"),
+                resultSet.getBigDecimal("first_grade_score"),
+                resultSet.getBigDecimal("second_grade_score"),
+                resultSet.getBigDecimal("third_grade_score"),
+                null);
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+}
@@ -2,9 +2,13 @@ package kr.hs.entrydsm.husky.domain.application.domain.repositories;
 
 import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 
 @Repository
 public interface CalculatedScoreRepository extends JpaRepository<CalculatedScore, Integer> {
+    @Query("select s from CalculatedScore s join fetch s.user")
+    List<CalculatedScore> findAllWithUser();
 }
@@ -1,6 +1,7 @@
 package kr.hs.entrydsm.husky.domain.application.domain.repositories;
 
 import kr.hs.entrydsm.husky.domain.application.domain.GeneralApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
 import kr.hs.entrydsm.husky.domain.user.domain.User;
 import kr.hs.entrydsm.husky.domain.user.domain.enums.GradeType;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,17 @@ public class GeneralApplicationRepositoryImpl implements GeneralApplicationRepos
         }
     }
 
+    @Override
+    public ApplicantSnapshot findSnapshotByUser(User user) {
+        if (user.isGradeTypeEmpty())
+            return ApplicantSnapshot.empty(user);
+
+        if (user.isGED())
+            return ApplicantSnapshot.ofGED(user, gedRepository.findById(user.getReceiptCode()).orElse(null));
+
+        return ApplicantSnapshot.ofGeneral(user, findByUser(user));
+    }
+
     @Override
     public boolean isUserApplicationEmpty(User user) {
         GradeType gradeType = user.getGradeType();
@@ -6,6 +6,7 @@ import kr.hs.entrydsm.husky.domain.application.domain.UnGraduatedApplication;
 import kr.hs.entrydsm.husky.domain.application.domain.repositories.GEDApplicationRepository;
 import kr.hs.entrydsm.husky.domain.application.domain.repositories.GraduatedApplicationRepository;
 import kr.hs.entrydsm.husky.domain.application.domain.repositories.UnGraduatedApplicationRepository;
+import kr.hs.entrydsm.husky.domain.process.domain.ProcessCacheRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Repository;
@@ -17,23 +18,27 @@ public class ApplicationAsyncRepositoryImpl implements ApplicationAsyncRepositor
     private final GEDApplicationRepository gedApplicationRepository;
     private final GraduatedApplicationRepository graduatedApplicationRepository;
     private final UnGraduatedApplicationRepository unGraduatedApplicationRepository;
+    private final ProcessCacheRepository processCacheRepository;
 
     @Async
     @Override
     public void save(GEDApplication gedApplication) {
         gedApplicationRepository.save(gedApplication);
+        processCacheRepository.deleteById(gedApplication.getReceiptCode());
     }
 
     @Async
     @Override
     public void save(GraduatedApplication graduatedApplication) {
         graduatedApplicationRepository.save(graduatedApplication);
+        processCacheRepository.deleteById(graduatedApplication.getReceiptCode());
     }
 
     @Async
     @Override
     public void save(UnGraduatedApplication unGraduatedApplication) {
         unGraduatedApplicationRepository.save(unGraduatedApplication);
+        processCacheRepository.deleteById(unGraduatedApplication.getReceiptCode());
     }
 
 }
@@ -0,0 +1,32 @@
+package kr.hs.entrydsm.husky.domain.application.domain.value;
+
+import kr.hs.entrydsm.husky.domain.application.domain.GEDApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.GeneralApplication;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// An applicant with the one application row matching their grade type, loaded once and shared read-only
+// by grade calculation and PDF conversion.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ApplicantSnapshot {
+
+    private final User user;
+    private final GeneralApplication generalApplication;
+    private final GEDApplication gedApplication;
+
+    public static ApplicantSnapshot ofGeneral(User user, GeneralApplication generalApplication) {
+        return new ApplicantSnapshot(user, generalApplication, null);
+    }
+
+    public static ApplicantSnapshot ofGED(User user, GEDApplication gedApplication) {
+        return new ApplicantSnapshot(user, null, gedApplication);
+    }
+
+    public static ApplicantSnapshot empty(User user) {
+        return new ApplicantSnapshot(user, null, null);
+    }
+
+}
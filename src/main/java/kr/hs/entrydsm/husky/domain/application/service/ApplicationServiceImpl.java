@@ -11,6 +11,7 @@ import kr.hs.entrydsm.husky.domain.application.domain.repositories.async.General
 import kr.hs.entrydsm.husky.domain.application.dto.*;
 import kr.hs.entrydsm.husky.domain.application.exception.ApplicationNotFoundException;
 import kr.hs.entrydsm.husky.domain.application.exception.ApplicationTypeUnmatchedException;
+import kr.hs.entrydsm.husky.domain.process.domain.ProcessCacheRepository;
 import kr.hs.entrydsm.husky.domain.user.domain.User;
 import kr.hs.entrydsm.husky.domain.user.domain.enums.GradeType;
 import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
@@ -31,6 +32,7 @@ public class ApplicationServiceImpl implements ApplicationService {
     private final GraduatedApplicationRepository graduatedApplicationRepository;
     private final UnGraduatedApplicationRepository unGraduatedApplicationRepository;
     private final GeneralApplicationAsyncRepositoryImpl generalApplicationAsyncRepository;
+    private final ProcessCacheRepository processCacheRepository;
 
     private final AuthenticationFacade authenticationFacade;
 
@@ -42,6 +44,7 @@ public class ApplicationServiceImpl implements ApplicationService {
 
         user.setSelfIntroduction(request.getContent());
         userRepository.save(user);
+        processCacheRepository.deleteById(receiptCode);
     }
 
     @Override
@@ -61,6 +64,7 @@ public class ApplicationServiceImpl implements ApplicationService {
 
         user.setStudyPlan(request.getContent());
         userRepository.save(user);
+        processCacheRepository.deleteById(receiptCode);
     }
 
     @Override
@@ -89,6 +93,7 @@ public class ApplicationServiceImpl implements ApplicationService {
 
         application.updateGedAverageScore(request.getGedAverageScore());
         gedApplicationRepository.save(application);
+        processCacheRepository.deleteById(receiptCode);
     }
 
     @Override
@@ -109,6 +114,7 @@ public class ApplicationServiceImpl implements ApplicationService {
                     application.update(dto);
                     generalApplicationAsyncRepository.save(application);
                 });
+        processCacheRepository.deleteById(receiptCode);
     }
 
     @Override
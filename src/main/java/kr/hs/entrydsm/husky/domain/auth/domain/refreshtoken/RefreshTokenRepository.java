@@ -1,11 +1,69 @@
 package kr.hs.entrydsm.husky.domain.auth.domain.refreshtoken;
 
-import org.springframework.data.repository.CrudRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
 
+// Refresh tokens stored under their SHA-256 digest with the receipt code as value, plus a pointer from each
+// applicant to their current token so that signing in again or rotating revokes the previous one.
+// Every change is a single Lua script: one round trip, applied atomically.
 @Repository
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
+@RequiredArgsConstructor
+public class RefreshTokenRepository {
+
+    private static final String TOKEN_KEY_PREFIX = "refresh_token:";
+    private static final String USER_KEY_PREFIX = "refresh_token:user:";
+
+    // KEYS: token, user / ARGV: receipt code, ttl
+    private static final RedisScript<Long> SAVE = new DefaultRedisScript<>(
+            "local previous = redis.call('GET', KEYS[2]) " +
+            "if previous then redis.call('DEL', previous) end " +
+            "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+            "redis.call('SET', KEYS[2], KEYS[1], 'EX', ARGV[2]) " +
+            "return 1", Long.class);
+
+    // KEYS: received token, new token, user / ARGV: receipt code, ttl
+    private static final RedisScript<Long> ROTATE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[2]) " +
+            "redis.call('SET', KEYS[3], KEYS[2], 'EX', ARGV[2]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void save(Integer receiptCode, String refreshToken, long ttl) {
+        redisTemplate.execute(SAVE, List.of(getTokenKey(refreshToken), getUserKey(receiptCode)),
+                receiptCode.toString(), Long.toString(ttl));
+    }
+
+    // Replaces receivedToken with newToken only while receivedToken is still the applicant's current token.
+    public boolean rotate(Integer receiptCode, String receivedToken, String newToken, long ttl) {
+        Long rotated = redisTemplate.execute(ROTATE,
+                List.of(getTokenKey(receivedToken), getTokenKey(newToken), getUserKey(receiptCode)),
+                receiptCode.toString(), Long.toString(ttl));
+        return rotated != null && rotated == 1;
+    }
+
+    private String getTokenKey(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return TOKEN_KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String getUserKey(Integer receiptCode) {
+        return USER_KEY_PREFIX + receiptCode;
+    }
+
 }
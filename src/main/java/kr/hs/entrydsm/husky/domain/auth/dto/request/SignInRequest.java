@@ -3,7 +3,6 @@ package kr.hs.entrydsm.husky.domain.auth.dto.request;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotEmpty;
@@ -22,8 +21,4 @@ public class SignInRequest {
     @Pattern(regexp = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&_~])[A-Za-z\\d@$!%*?&_~]{8,}$")
     private String password;
 
-    public UsernamePasswordAuthenticationToken getAuthToken(int receiptCode) {
-        return new UsernamePasswordAuthenticationToken(receiptCode, password);
-    }
-
 }
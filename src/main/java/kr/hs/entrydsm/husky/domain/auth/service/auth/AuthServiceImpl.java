@@ -1,6 +1,5 @@
 package kr.hs.entrydsm.husky.domain.auth.service.auth;
 
-import kr.hs.entrydsm.husky.domain.auth.domain.refreshtoken.RefreshToken;
 import kr.hs.entrydsm.husky.domain.auth.domain.refreshtoken.RefreshTokenRepository;
 import kr.hs.entrydsm.husky.domain.auth.dto.request.SignInRequest;
 import kr.hs.entrydsm.husky.domain.auth.dto.response.TokenResponse;
@@ -10,12 +9,10 @@ import kr.hs.entrydsm.husky.domain.auth.service.refreshtoken.RefreshTokenService
 import kr.hs.entrydsm.husky.domain.user.domain.User;
 import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
 import kr.hs.entrydsm.husky.global.config.security.JwtTokenProvider;
+import kr.hs.entrydsm.husky.global.config.security.ParsedToken;
 import kr.hs.entrydsm.husky.global.error.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -34,7 +31,6 @@ public class AuthServiceImpl implements AuthService {
     private final RefreshTokenService refreshTokenService;
     private final JwtTokenProvider tokenProvider;
     private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManager authenticationManager;
 
     @Override
     public TokenResponse signIn(SignInRequest request) {
@@ -42,14 +38,9 @@ public class AuthServiceImpl implements AuthService {
                 .filter(user -> passwordEncoder.matches(request.getPassword(), user.getPassword()))
                     .map(User::getReceiptCode)
                     .map(receiptCode -> {
-                        try {
-                            authenticationManager.authenticate(request.getAuthToken(receiptCode));
-                        } catch (AuthenticationException e) {
-                            throw new BadCredentialsException(e.getLocalizedMessage());
-                        }
                         String accessToken = tokenProvider.generateAccessToken(receiptCode);
                         String refreshToken = tokenProvider.generateRefreshToken(receiptCode);
-                        refreshTokenService.save(new RefreshToken(receiptCode, refreshToken, refreshExp));
+                        refreshTokenService.save(receiptCode, refreshToken, refreshExp);
                         return new TokenResponse(accessToken, refreshToken, tokenType);
                     })
                 .orElseThrow(UserNotFoundException::new);
@@ -57,20 +48,17 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public TokenResponse refreshToken(String receivedToken) {
-        if (!tokenProvider.isRefreshToken(receivedToken))
+        ParsedToken parsedToken = tokenProvider.parse(receivedToken);
+        if (!parsedToken.isRefreshToken())
             throw new InvalidTokenException();
-        
-        return refreshTokenRepository.findByRefreshToken(receivedToken)
-                .map(refreshToken -> {
-                    String generatedRefreshToken = tokenProvider.generateRefreshToken(refreshToken.getReceiptCode());
-                    return refreshToken.update(generatedRefreshToken, refreshExp);
-                })
-                .map(refreshTokenRepository::save)
-                .map(refreshToken -> {
-                    String generatedAccessToken = tokenProvider.generateAccessToken(refreshToken.getReceiptCode());
-                    return new TokenResponse(generatedAccessToken, refreshToken.getRefreshToken(), tokenType);
-                })
-                .orElseThrow(ExpiredTokenException::new);
+
+        Integer receiptCode = parsedToken.getReceiptCode();
+        String generatedRefreshToken = tokenProvider.generateRefreshToken(receiptCode);
+        if (!refreshTokenRepository.rotate(receiptCode, receivedToken, generatedRefreshToken, refreshExp))
+            throw new ExpiredTokenException();
+
+        String generatedAccessToken = tokenProvider.generateAccessToken(receiptCode);
+        return new TokenResponse(generatedAccessToken, generatedRefreshToken, tokenType);
     }
 
 }
@@ -1,9 +1,7 @@
 package kr.hs.entrydsm.husky.domain.auth.service.refreshtoken;
 
-import kr.hs.entrydsm.husky.domain.auth.domain.refreshtoken.RefreshToken;
-
 public interface RefreshTokenService {
 
-    void save(RefreshToken refreshToken);
+    void save(Integer receiptCode, String refreshToken, Long ttl);
 
 }
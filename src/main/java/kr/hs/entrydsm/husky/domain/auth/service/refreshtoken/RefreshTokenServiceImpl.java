@@ -1,6 +1,5 @@
 package kr.hs.entrydsm.husky.domain.auth.service.refreshtoken;
 
-import kr.hs.entrydsm.husky.domain.auth.domain.refreshtoken.RefreshToken;
 import kr.hs.entrydsm.husky.domain.auth.domain.refreshtoken.RefreshTokenRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
@@ -14,8 +13,8 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 
     @Async
     @Override
-    public void save(RefreshToken refreshToken) {
-        refreshTokenRepository.save(refreshToken);
+    public void save(Integer receiptCode, String refreshToken, Long ttl) {
+        refreshTokenRepository.save(receiptCode, refreshToken, ttl);
     }
 
 }
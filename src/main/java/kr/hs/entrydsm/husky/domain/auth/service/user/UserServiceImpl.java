@@ -1,7 +1,5 @@
 package kr.hs.entrydsm.husky.domain.auth.service.user;
 
-import kr.hs.entrydsm.husky.domain.auth.domain.emaillimit.EmailLimiter;
-import kr.hs.entrydsm.husky.domain.auth.domain.emaillimit.EmailLimiterRepository;
 import kr.hs.entrydsm.husky.domain.auth.dto.request.AccountRequest;
 import kr.hs.entrydsm.husky.domain.auth.dto.request.ChangePasswordRequest;
 import kr.hs.entrydsm.husky.domain.auth.dto.request.EmailRequest;
@@ -18,12 +16,12 @@ import kr.hs.entrydsm.husky.global.error.exception.UserNotFoundException;
 import kr.hs.entrydsm.husky.global.config.security.AuthenticationFacade;
 import kr.hs.entrydsm.husky.domain.auth.service.email.EmailService;
 import kr.hs.entrydsm.husky.global.config.security.JwtTokenProvider;
+import kr.hs.entrydsm.husky.global.ratelimit.RateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
 import java.util.Random;
 
 @Service
@@ -33,14 +31,17 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final StatusRepository statusRepository;
     private final EmailVerificationRepository emailVerificationRepository;
-    private final EmailLimiterRepository emailLimiterRepository;
+    private final RateLimiter rateLimiter;
 
     private final EmailService emailService;
 
     private final PasswordEncoder passwordEncoder;
 
-    @Value("${auth.email.limit}")
-    private int limit;
+    @Value("${rate-limit.per-email}")
+    private int emailLimit;
+
+    @Value("${rate-limit.window-seconds}")
+    private long windowSeconds;
 
     @Override
     public void signUp(AccountRequest accountRequest) {
@@ -110,6 +111,9 @@ public class UserServiceImpl implements UserService {
         userRepository.findByEmail(email)
                 .orElseThrow(UserNotFoundException::new);
 
+        if (!isUnderRequestLimit(email))
+            throw new TooManyEmailRequestException();
+
         String code = randomCode();
         emailService.sendPasswordChangeEmail(email, code);
         emailVerificationRepository.save(
@@ -147,11 +151,7 @@ public class UserServiceImpl implements UserService {
     }
 
     private boolean isUnderRequestLimit(String email) {
-        return emailLimiterRepository.findById(email)
-                .or(() -> Optional.of(new EmailLimiter(email, 0L)))
-                .map(limiter -> emailLimiterRepository.save(limiter.update(limit)))
-                .map(EmailLimiter::isBelowLimit)
-                .get();
+        return rateLimiter.tryAcquire("email:" + email, emailLimit, windowSeconds);
     }
 
 }
@@ -0,0 +1,21 @@
+package kr.hs.entrydsm.husky.domain.grade.controller;
+
+import kr.hs.entrydsm.husky.domain.grade.dto.GradeRecalcResponse;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeRecalcService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/admin/grades/recalculation")
+public class GradeRecalcController {
+
+    private final GradeRecalcService gradeRecalcService;
+
+    @PostMapping
+    public GradeRecalcResponse recalculate(@RequestHeader("secret") String secret,
+                                           @RequestParam(name = "dry_run", defaultValue = "false") boolean dryRun) {
+        return gradeRecalcService.recalculate(secret, dryRun);
+    }
+
+}
@@ -0,0 +1,24 @@
+package kr.hs.entrydsm.husky.domain.grade.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GradeRecalcResponse {
+
+    private boolean dryRun;
+    private int total;
+    private int changed;
+    private int unchanged;
+    private int failed;
+    private long elapsedMillis;
+    private List<ScoreChangeResponse> changes;
+
+}
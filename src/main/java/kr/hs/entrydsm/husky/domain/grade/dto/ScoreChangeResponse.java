@@ -0,0 +1,20 @@
+package kr.hs.entrydsm.husky.domain.grade.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreChangeResponse {
+
+    private Integer receiptCode;
+    private BigDecimal previousFinalScore;
+    private BigDecimal finalScore;
+
+}
@@ -0,0 +1,8 @@
+package kr.hs.entrydsm.husky.domain.grade.exception;
+
+import kr.hs.entrydsm.husky.global.error.exception.BusinessException;
+import kr.hs.entrydsm.husky.global.error.exception.ErrorCode;
+
+public class GradeRecalcInProgressException extends BusinessException {
+    public GradeRecalcInProgressException() { super(ErrorCode.GRADE_RECALC_IN_PROGRESS); }
+}
@@ -1,6 +1,7 @@
 package kr.hs.entrydsm.husky.domain.grade.service;
 
 import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
 import kr.hs.entrydsm.husky.domain.user.domain.User;
 import org.springframework.stereotype.Service;
 
@@ -8,5 +9,7 @@ import org.springframework.stereotype.Service;
 public interface GradeCalcService {
 
     CalculatedScore calcStudentGrade(User user);
+    CalculatedScore calcStudentGrade(ApplicantSnapshot snapshot);
+    CalculatedScore calculate(ApplicantSnapshot snapshot);
 
 }
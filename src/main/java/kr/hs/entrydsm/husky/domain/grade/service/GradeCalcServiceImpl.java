@@ -1,20 +1,27 @@
 package kr.hs.entrydsm.husky.domain.grade.service;
 
 import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.GEDApplication;
 import kr.hs.entrydsm.husky.domain.application.domain.GeneralApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.CalculatedScoreJdbcRepository;
 import kr.hs.entrydsm.husky.domain.application.domain.repositories.CalculatedScoreRepository;
-import kr.hs.entrydsm.husky.domain.application.domain.repositories.GEDApplicationRepository;
 import kr.hs.entrydsm.husky.domain.application.domain.repositories.GeneralApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
 import kr.hs.entrydsm.husky.domain.application.domain.value.GradeScore;
+import kr.hs.entrydsm.husky.domain.grade.util.FixedPointGradeCalculator;
 import kr.hs.entrydsm.husky.domain.grade.util.GradeUtil;
 import kr.hs.entrydsm.husky.domain.grade.value.GradeMatrix;
+import kr.hs.entrydsm.husky.domain.ranking.service.RankingService;
 import kr.hs.entrydsm.husky.domain.user.domain.User;
 import kr.hs.entrydsm.husky.domain.user.domain.enums.ApplyType;
 import kr.hs.entrydsm.husky.domain.user.domain.enums.GradeType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
 
 import static java.math.RoundingMode.DOWN;
 import static java.math.RoundingMode.HALF_UP;
@@ -27,28 +34,63 @@ public class GradeCalcServiceImpl implements GradeCalcService {
 
     public static final int DEFAULT_ATTENDANCE_SCORE = 15;
 
-    private final GEDApplicationRepository gedApplicationRepository;
     private final CalculatedScoreRepository calculatedScoreRepository;
+    private final CalculatedScoreJdbcRepository calculatedScoreJdbcRepository;
     private final GeneralApplicationRepository generalApplicationRepository;
+    private final RankingService rankingService;
+
+    @Value("${grade.calc.fixed-point}")
+    private boolean fixedPointEnabled;
 
     @Override
     public CalculatedScore calcStudentGrade(User user) {
         if (user.isGradeTypeEmpty())
             return CalculatedScore.EMPTY(user);
 
-        GeneralApplication generalApplication = generalApplicationRepository.findByUser(user);
+        return calcStudentGrade(generalApplicationRepository.findSnapshotByUser(user));
+    }
+
+    @Override
+    public CalculatedScore calcStudentGrade(ApplicantSnapshot snapshot) {
+        if (snapshot.getUser().isGradeTypeEmpty())
+            return CalculatedScore.EMPTY(snapshot.getUser());
+
+        CalculatedScore calculatedScore = calculate(snapshot);
+        boolean unchanged = calculatedScoreJdbcRepository.findByReceiptCode(calculatedScore.getReceiptCode())
+                .filter(calculatedScore::hasSameScore)
+                .isPresent();
+
+        // The stored row is the memo: when the inputs produce the same score, skip the merge and its cascade onto User.
+        if (unchanged)
+            return calculatedScore;
+
+        CalculatedScore savedScore = calculatedScoreRepository.save(calculatedScore);
+        rankingService.updateRanking(List.of(savedScore));
+        return savedScore;
+    }
+
+    @Override
+    public CalculatedScore calculate(ApplicantSnapshot snapshot) {
+        User user = snapshot.getUser();
+        if (user.isGradeTypeEmpty())
+            return CalculatedScore.EMPTY(user);
+
+        GeneralApplication generalApplication = snapshot.getGeneralApplication();
         int attendanceScore = calcAttendanceScore(user, generalApplication);
-        BigDecimal volunteerScore = calcVolunteerScore(user, generalApplication);
-        GradeScore gradeScore = calcGradeScore(user, generalApplication);
+        if (fixedPointEnabled)
+            return FixedPointGradeCalculator.calculate(user, generalApplication, snapshot.getGedApplication(), attendanceScore);
+
+        BigDecimal volunteerScore = calcVolunteerScore(user, generalApplication, snapshot.getGedApplication());
+        GradeScore gradeScore = calcGradeScore(user, generalApplication, snapshot.getGedApplication());
         BigDecimal finalScore = calcFinalScore(attendanceScore, volunteerScore, gradeScore);
 
-        return calculatedScoreRepository.save(CalculatedScore.builder()
+        return CalculatedScore.builder()
                 .user(user)
                 .attendanceScore(attendanceScore)
                 .volunteerScore(volunteerScore)
                 .gradeScore(gradeScore)
                 .finalScore(finalScore)
-                .build());
+                .build();
     }
 
     private Integer calcAttendanceScore(User user, GeneralApplication generalApplication) {
@@ -72,10 +114,10 @@ public class GradeCalcServiceImpl implements GradeCalcService {
         }
     }
 
-    private BigDecimal calcVolunteerScore(User user, GeneralApplication generalApplication) {
+    private BigDecimal calcVolunteerScore(User user, GeneralApplication generalApplication, GEDApplication gedApplication) {
         if (user.isGED()) {
-            return gedApplicationRepository.findById(user.getReceiptCode())
-                    .map(gedApplication -> gedApplication.getGedAverageScore()
+            return Optional.ofNullable(gedApplication)
+                    .map(ged -> ged.getGedAverageScore()
                             .subtract(BigDecimal.valueOf(40))
                             .divide(BigDecimal.valueOf(5), 3, HALF_UP)
                             .add(BigDecimal.valueOf(3)))
@@ -101,13 +143,13 @@ public class GradeCalcServiceImpl implements GradeCalcService {
                 .setScale(3, HALF_UP);
     }
 
-    private GradeScore calcGradeScore(User user, GeneralApplication generalApplication) {
+    private GradeScore calcGradeScore(User user, GeneralApplication generalApplication, GEDApplication gedApplication) {
         GradeScore gradeScore;
 
         if (user.isGED()) {
-            gradeScore = gedApplicationRepository.findById(user.getReceiptCode())
-                    .map(gedApplication -> {
-                        BigDecimal conversionScore = calcGEDConversionScore(gedApplication.getGedAverageScore());
+            gradeScore = Optional.ofNullable(gedApplication)
+                    .map(ged -> {
+                        BigDecimal conversionScore = calcGEDConversionScore(ged.getGedAverageScore());
                         return new GradeScore(conversionScore);
                     })
                     .orElse(GradeScore.EMPTY());
@@ -0,0 +1,9 @@
+package kr.hs.entrydsm.husky.domain.grade.service;
+
+import kr.hs.entrydsm.husky.domain.grade.dto.GradeRecalcResponse;
+
+public interface GradeRecalcService {
+
+    GradeRecalcResponse recalculate(String secret, boolean dryRun);
+
+}
@@ -0,0 +1,232 @@
+package kr.hs.entrydsm.husky.domain.grade.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.GEDApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.GeneralApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.GraduatedApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.UnGraduatedApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.CalculatedScoreJdbcRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GEDApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GraduatedApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.UnGraduatedApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
+import kr.hs.entrydsm.husky.domain.grade.dto.GradeRecalcResponse;
+import kr.hs.entrydsm.husky.domain.grade.dto.ScoreChangeResponse;
+import kr.hs.entrydsm.husky.domain.grade.exception.GradeRecalcInProgressException;
+import kr.hs.entrydsm.husky.domain.ranking.service.RankingService;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.GradeType;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
+import kr.hs.entrydsm.husky.global.config.security.AdminValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+// Recalculates every applicant with a grade type, a page at a time: applications are loaded with one query per
+// grade type, scores are computed across the worker pool and only new or changed rows are written in JDBC batches.
+// A dry run reports the same changes without writing them.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GradeRecalcServiceImpl implements GradeRecalcService {
+
+    private final UserRepository userRepository;
+    private final GraduatedApplicationRepository graduatedApplicationRepository;
+    private final UnGraduatedApplicationRepository unGraduatedApplicationRepository;
+    private final GEDApplicationRepository gedApplicationRepository;
+    private final CalculatedScoreJdbcRepository calculatedScoreJdbcRepository;
+    private final GradeCalcService gradeCalcService;
+    private final RankingService rankingService;
+    private final AdminValidator adminValidator;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private ExecutorService workers;
+
+    @Value("${grade.recalc.workers}")
+    private int workerCount;
+
+    @Value("${grade.recalc.page-size}")
+    private int pageSize;
+
+    @PostConstruct
+    public void initialize() {
+        if (workerCount <= 0)
+            workerCount = Runtime.getRuntime().availableProcessors();
+        workers = Executors.newFixedThreadPool(workerCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    @Override
+    public GradeRecalcResponse recalculate(String secret, boolean dryRun) {
+        adminValidator.validate(secret);
+
+        if (!running.compareAndSet(false, true))
+            throw new GradeRecalcInProgressException();
+
+        long startedAt = System.nanoTime();
+        try {
+            GradeRecalcResponse response = recalculateAll(dryRun, startedAt);
+            log.info("Recalculated {} applicants in {} ms ({} changed, {} failed, dry run: {})",
+                    response.getTotal(), response.getElapsedMillis(), response.getChanged(), response.getFailed(), dryRun);
+            return response;
+        } finally {
+            meterRegistry.timer("grade.recalc", "dry_run", String.valueOf(dryRun))
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            running.set(false);
+        }
+    }
+
+    private GradeRecalcResponse recalculateAll(boolean dryRun, long startedAt) {
+        AtomicInteger failed = new AtomicInteger();
+        List<ScoreChangeResponse> changes = new ArrayList<>();
+        int total = 0;
+
+        Pageable pageable = PageRequest.of(0, pageSize, Sort.by("receiptCode"));
+        Slice<User> page;
+        do {
+            page = userRepository.findAllByGradeTypeIsNotNull(pageable);
+            total += page.getNumberOfElements();
+
+            List<CalculatedScore> scores = calculateAll(loadSnapshots(page.getContent()), failed);
+            Map<Integer, CalculatedScore> previousScores = calculatedScoreJdbcRepository.findAllByReceiptCodes(
+                    scores.stream().map(CalculatedScore::getReceiptCode).collect(toList()));
+
+            List<CalculatedScore> inserts = new ArrayList<>();
+            List<CalculatedScore> updates = new ArrayList<>();
+            for (CalculatedScore score : scores) {
+                CalculatedScore previousScore = previousScores.get(score.getReceiptCode());
+                if (previousScore == null) {
+                    inserts.add(score);
+                } else if (!previousScore.hasSameScore(score)) {
+                    updates.add(score);
+                } else {
+                    continue;
+                }
+
+                changes.add(ScoreChangeResponse.builder()
+                        .receiptCode(score.getReceiptCode())
+                        .previousFinalScore(previousScore == null ? null : previousScore.getFinalScore())
+                        .finalScore(score.getFinalScore())
+                        .build());
+            }
+
+            if (!dryRun) {
+                calculatedScoreJdbcRepository.saveAll(inserts, updates);
+                rankingService.updateRanking(inserts);
+                rankingService.updateRanking(updates);
+            }
+
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+
+        int unchanged = total - changes.size() - failed.get();
+        countApplicants("changed", changes.size());
+        countApplicants("unchanged", unchanged);
+        countApplicants("failed", failed.get());
+
+        return GradeRecalcResponse.builder()
+                .dryRun(dryRun)
+                .total(total)
+                .changed(changes.size())
+                .unchanged(unchanged)
+                .failed(failed.get())
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .changes(changes)
+                .build();
+    }
+
+    private List<ApplicantSnapshot> loadSnapshots(List<User> users) {
+        Map<GradeType, List<Integer>> receiptCodes = users.stream()
+                .collect(groupingBy(User::getGradeType, mapping(User::getReceiptCode, toList())));
+
+        Map<Integer, GeneralApplication> generalApplications = new HashMap<>();
+        for (GraduatedApplication application : graduatedApplicationRepository
+                .findAllById(receiptCodes.getOrDefault(GradeType.GRADUATED, List.of()))) {
+            generalApplications.put(application.getReceiptCode(), application);
+        }
+        for (UnGraduatedApplication application : unGraduatedApplicationRepository
+                .findAllById(receiptCodes.getOrDefault(GradeType.UNGRADUATED, List.of()))) {
+            generalApplications.put(application.getReceiptCode(), application);
+        }
+
+        Map<Integer, GEDApplication> gedApplications = gedApplicationRepository
+                .findAllById(receiptCodes.getOrDefault(GradeType.GED, List.of())).stream()
+                .collect(Collectors.toMap(GEDApplication::getReceiptCode, application -> application));
+
+        return users.stream()
+                .map(user -> user.isGED()
+                        ? ApplicantSnapshot.ofGED(user, gedApplications.get(user.getReceiptCode()))
+                        : ApplicantSnapshot.ofGeneral(user, generalApplications.get(user.getReceiptCode())))
+                .collect(toList());
+    }
+
+    private List<CalculatedScore> calculateAll(List<ApplicantSnapshot> snapshots, AtomicInteger failed) {
+        int chunkSize = Math.max(1, (snapshots.size() + workerCount - 1) / workerCount);
+
+        List<Future<List<CalculatedScore>>> chunks = new ArrayList<>();
+        for (int from = 0; from < snapshots.size(); from += chunkSize) {
+            List<ApplicantSnapshot> chunk = snapshots.subList(from, Math.min(from + chunkSize, snapshots.size()));
+            chunks.add(workers.submit(() -> calculateChunk(chunk, failed)));
+        }
+
+        List<CalculatedScore> scores = new ArrayList<>(snapshots.size());
+        try {
+            for (Future<List<CalculatedScore>> chunk : chunks) {
+                scores.addAll(chunk.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new IllegalStateException("Grade recalculation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Grade recalculation failed", e.getCause());
+        }
+        return scores;
+    }
+
+    private List<CalculatedScore> calculateChunk(List<ApplicantSnapshot> snapshots, AtomicInteger failed) {
+        List<CalculatedScore> scores = new ArrayList<>(snapshots.size());
+        for (ApplicantSnapshot snapshot : snapshots) {
+            try {
+                scores.add(gradeCalcService.calculate(snapshot));
+            } catch (RuntimeException e) {
+                log.warn("Failed to calculate grade of {}", snapshot.getUser().getReceiptCode(), e);
+                failed.incrementAndGet();
+            }
+        }
+        return scores;
+    }
+
+    private void countApplicants(String result, int count) {
+        meterRegistry.counter("grade.recalc.applicants", "result", result).increment(count);
+    }
+
+}
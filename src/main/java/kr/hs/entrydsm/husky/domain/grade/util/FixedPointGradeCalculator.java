@@ -0,0 +1,180 @@
+package kr.hs.entrydsm.husky.domain.grade.util;
+
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.GEDApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.GeneralApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.value.GradeScore;
+import kr.hs.entrydsm.husky.domain.grade.value.GradeMatrix;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.ApplyType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static kr.hs.entrydsm.husky.domain.grade.constant.Semester.*;
+
+// Computes the same CalculatedScore as the BigDecimal chain in GradeCalcServiceImpl, value and scale included,
+// using longs scaled by a power of ten. Every value in the chain is non-negative except GED conversion scores,
+// so DOWN is plain long division and HALF_UP only needs care in roundHalfUp.
+public class FixedPointGradeCalculator {
+
+    private static final int SEMESTER_SCALE = 5;
+    private static final int SCORE_SCALE = 3;
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000};
+
+    private FixedPointGradeCalculator() {
+    }
+
+    public static CalculatedScore calculate(User user, GeneralApplication generalApplication,
+                                            GEDApplication gedApplication, int attendanceScore) {
+        long volunteerScore;
+        int volunteerScale;
+        GradeScore gradeScore;
+
+        if (user.isGED()) {
+            volunteerScale = gedApplication == null ? 0 : SCORE_SCALE;
+            volunteerScore = gedApplication == null ? 0 : calcGEDVolunteerScore(toHundredths(gedApplication));
+            gradeScore = gedApplication == null ? GradeScore.EMPTY() : calcGEDGradeScore(user, toHundredths(gedApplication));
+        } else if (generalApplication == null) {
+            volunteerScale = 0;
+            volunteerScore = 0;
+            gradeScore = GradeScore.EMPTY();
+        } else {
+            int volunteerTime = generalApplication.getVolunteerTime();
+            volunteerScale = volunteerTime >= 45 || volunteerTime <= 9 ? 0 : SCORE_SCALE;
+            volunteerScore = calcVolunteerScore(volunteerTime);
+            gradeScore = calcGeneralGradeScore(user, generalApplication);
+        }
+
+        BigDecimal volunteer = BigDecimal.valueOf(volunteerScore, volunteerScale);
+        int finalScale = Math.max(volunteerScale, gradeScore.getConversionScore().scale());
+        long finalScore = attendanceScore * pow10(finalScale)
+                + volunteerScore * pow10(finalScale - volunteerScale)
+                + gradeScore.getConversionScore().unscaledValue().longValueExact()
+                * pow10(finalScale - gradeScore.getConversionScore().scale());
+
+        return CalculatedScore.builder()
+                .user(user)
+                .attendanceScore(attendanceScore)
+                .volunteerScore(volunteer)
+                .gradeScore(gradeScore)
+                .finalScore(BigDecimal.valueOf(finalScore, finalScale))
+                .build();
+    }
+
+    // 3 below 10 hours, 15 from 45 hours, and (hours - 9) / 3 + 3 in between, truncated to 4 places then rounded to 3.
+    private static long calcVolunteerScore(int volunteerTime) {
+        if (volunteerTime >= 45)
+            return 15;
+        if (volunteerTime <= 9)
+            return 3;
+
+        long tenThousandths = (volunteerTime - 9) * 10_000L / 3 + 30_000;
+        return roundHalfUp(tenThousandths, 10);
+    }
+
+    // (average - 40) / 5 + 3 and (average - 50) * 3, both exact at 3 places for an average with 2 places.
+    private static long calcGEDVolunteerScore(long gedAverage) {
+        return (gedAverage - 4_000) * 2 + 3_000;
+    }
+
+    private static GradeScore calcGEDGradeScore(User user, long gedAverage) {
+        long conversionScore = (gedAverage - 5_000) * 30;
+        if (user.getApplyType() != ApplyType.COMMON)
+            conversionScore = roundHalfUp(conversionScore * 6, 10);
+
+        BigDecimal zero = BigDecimal.valueOf(0, SCORE_SCALE);
+        return GradeScore.builder()
+                .firstGradeScore(zero)
+                .secondGradeScore(zero)
+                .thirdGradeScore(zero)
+                .conversionScore(BigDecimal.valueOf(conversionScore, SCORE_SCALE))
+                .build();
+    }
+
+    private static GradeScore calcGeneralGradeScore(User user, GeneralApplication generalApplication) {
+        GradeMatrix matrix = new GradeMatrix(generalApplication);
+        GradeUtil matrixUtil = new GradeUtil(user, matrix);
+
+        if (matrixUtil.isAllGradeEmpty() || matrixUtil.isThirdGradeEmpty(user.getGradeType()))
+            return GradeScore.EMPTY();
+
+        boolean isFirstGradeEmpty = matrixUtil.isFirstGradeEmpty();
+        boolean isSecondGradeEmpty = matrixUtil.isSecondGradeEmpty();
+        boolean isGraduated = user.isGraduated();
+
+        matrixUtil.fillEmptySemester();
+
+        long thirdGradeAverage = isGraduated
+                ? getScore(matrix, SEMESTER_3_1, SEMESTER_3_2)
+                : getScore(matrix, SEMESTER_3_1) * 2;
+        long firstGradeScore;
+        long secondGradeScore;
+
+        if (isFirstGradeEmpty && isSecondGradeEmpty) {
+            firstGradeScore = thirdGradeAverage;
+            secondGradeScore = thirdGradeAverage;
+        } else if (isFirstGradeEmpty) {
+            secondGradeScore = getScore(matrix, SEMESTER_2_1, SEMESTER_2_2);
+            firstGradeScore = isGraduated
+                    ? getScore(matrix, SEMESTER_2_1, SEMESTER_3_2) * 2 / 4
+                    : (secondGradeScore + thirdGradeAverage) * 2 / 4;
+        } else if (isSecondGradeEmpty) {
+            firstGradeScore = getScore(matrix, SEMESTER_1_1, SEMESTER_1_2);
+            secondGradeScore = (firstGradeScore + thirdGradeAverage) * 2 / 4;
+        } else {
+            firstGradeScore = getScore(matrix, SEMESTER_1_1, SEMESTER_1_2);
+            secondGradeScore = getScore(matrix, SEMESTER_2_1, SEMESTER_2_2);
+        }
+
+        // Semester averages carry 5 places; * 4.5 and * 6 bring them to 6, and * 0.6 to 7.
+        long first = firstGradeScore * 45;
+        long second = secondGradeScore * 45;
+        long third = getScore(matrix, SEMESTER_3_1, SEMESTER_3_2) * 60;
+        long divisor = 1_000;
+
+        if (user.getApplyType() != ApplyType.COMMON) {
+            first *= 6;
+            second *= 6;
+            third *= 6;
+            divisor = 10_000;
+        }
+
+        first = roundHalfUp(first, divisor);
+        second = roundHalfUp(second, divisor);
+        third = roundHalfUp(third, divisor);
+
+        return GradeScore.builder()
+                .firstGradeScore(BigDecimal.valueOf(first, SCORE_SCALE))
+                .secondGradeScore(BigDecimal.valueOf(second, SCORE_SCALE))
+                .thirdGradeScore(BigDecimal.valueOf(third, SCORE_SCALE))
+                .conversionScore(BigDecimal.valueOf(first + second + third, SCORE_SCALE))
+                .build();
+    }
+
+    private static long getScore(GradeMatrix matrix, int semester) {
+        return matrix.getSemesterSum(semester) * pow10(SEMESTER_SCALE) / matrix.getSemesterCount(semester);
+    }
+
+    private static long getScore(GradeMatrix matrix, int beginSemester, int endSemester) {
+        long sum = 0;
+        for (int semester = beginSemester; semester <= endSemester; semester++) {
+            sum += getScore(matrix, semester);
+        }
+        return sum;
+    }
+
+    private static long toHundredths(GEDApplication gedApplication) {
+        return gedApplication.getGedAverageScore().setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    private static long roundHalfUp(long value, long divisor) {
+        long half = divisor / 2;
+        return value >= 0 ? (value + half) / divisor : -((-value + half) / divisor);
+    }
+
+    private static long pow10(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+
+}
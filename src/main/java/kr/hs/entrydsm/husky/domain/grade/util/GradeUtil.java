@@ -5,8 +5,6 @@ import kr.hs.entrydsm.husky.domain.user.domain.User;
 import kr.hs.entrydsm.husky.domain.user.domain.enums.GradeType;
 
 import java.math.BigDecimal;
-import java.util.List;
-import java.util.stream.Collectors;
 
 import static java.math.RoundingMode.*;
 import static kr.hs.entrydsm.husky.domain.grade.constant.BigDecimalConstants.FOUR;
@@ -52,21 +50,14 @@ public class GradeUtil {
     private boolean isEmptyGrade(int beginColumn, int endColumn) {
         int sum = 0;
         for (int column = beginColumn; column <= endColumn; column++) {
-            for (List<Integer> integers : gradeMatrix.getMatrix()) {
-                sum += integers.get(column);
-            }
+            sum += gradeMatrix.getSemesterSum(column);
         }
 
         return sum == 0;
     }
 
     private boolean isEmptyGrade(int semeseter) {
-        int sum = 0;
-        for (List<Integer> integers : gradeMatrix.getMatrix()) {
-            sum += integers.get(semeseter);
-        }
-
-        return sum == 0;
+        return gradeMatrix.getSemesterSum(semeseter) == 0;
     }
 
     public BigDecimal getAverageScoreIf3rdGradeLeft() {
@@ -121,18 +112,8 @@ public class GradeUtil {
     }
 
     public BigDecimal getScore(int column) {
-        int subject = 7;
-        int sum = 0;
-
-        List<List<Integer>> matrix = gradeMatrix.getMatrix();
-        for (int row = 0; row <= matrix.size() - 1; row++) {
-            int score = matrix.get(row).get(column);
-            if (score == 0) subject--;
-            else sum += score;
-        }
-
-        return BigDecimal.valueOf(sum)
-                .divide(BigDecimal.valueOf(subject), 5, DOWN);
+        return BigDecimal.valueOf(gradeMatrix.getSemesterSum(column))
+                .divide(BigDecimal.valueOf(gradeMatrix.getSemesterCount(column)), 5, DOWN);
     }
 
     public BigDecimal getScore(int beginColumn, int endColumn) {
@@ -150,34 +131,15 @@ public class GradeUtil {
     }
 
     private void fillNextSemester(int first, int second) {
-        boolean isFirstSemesterEmpty = isEmptySemester(first);
-        boolean isSecondSemesterEmpty = isEmptySemester(second);
+        boolean isFirstSemesterEmpty = isEmptyGrade(first);
+        boolean isSecondSemesterEmpty = isEmptyGrade(second);
 
         if (isFirstSemesterEmpty && !isSecondSemesterEmpty) {
-            copyToNextColumn(getSemester(second), first);
+            gradeMatrix.copySemester(second, first);
         } else if (!isFirstSemesterEmpty && isSecondSemesterEmpty) {
-            copyToNextColumn(getSemester(first), second);
+            gradeMatrix.copySemester(first, second);
         }
 
     }
 
-    private boolean isEmptySemester(int semester) {
-        int sum = gradeMatrix.getMatrix().stream()
-                .mapToInt(row -> row.get(semester)).sum();
-        return sum == 0;
-    }
-
-    private List<Integer> getSemester(int semester) {
-        return gradeMatrix.getMatrix().stream()
-                .map(row -> row.get(semester))
-                .collect(Collectors.toList());
-    }
-
-    private void copyToNextColumn(List<Integer> semesterGrades, int nextIndex) {
-        for (int index = 0; index < semesterGrades.size(); index++) {
-            gradeMatrix.getMatrix().get(index)
-                    .set(nextIndex, semesterGrades.get(index));
-        }
-    }
-
 }
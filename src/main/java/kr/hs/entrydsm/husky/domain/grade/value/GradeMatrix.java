@@ -2,55 +2,85 @@ package kr.hs.entrydsm.husky.domain.grade.value;
 
 import kr.hs.entrydsm.husky.domain.application.domain.GeneralApplication;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
+// 7 subjects x 6 semesters of grade points (A=5 ... E=1, anything else 0), stored semester by semester.
+// Per-semester sums and non-zero counts are kept up to date so emptiness checks and averages never rescan.
 public class GradeMatrix {
-    
-    private List<List<Integer>> matrix;
 
-    public GradeMatrix(GeneralApplication application) {
-        List<String> grades = new ArrayList<>();
-        grades.add(application.getKorean());
-        grades.add(application.getSocial());
-        grades.add(application.getHistory());
-        grades.add(application.getMath());
-        grades.add(application.getScience());
-        grades.add(application.getTechAndHome());
-        grades.add(application.getEnglish());
+    public static final int SUBJECT_COUNT = 7;
+    public static final int SEMESTER_COUNT = 6;
+
+    private final int[] grades = new int[SEMESTER_COUNT * SUBJECT_COUNT];
+    private final int[] semesterSums = new int[SEMESTER_COUNT];
+    private final int[] semesterCounts = new int[SEMESTER_COUNT];
 
-        this.matrix = grades.stream()
-                .map(this::convertToGradeScores)
-                .collect(Collectors.toList());
+    public GradeMatrix(GeneralApplication application) {
+        this(application.getKorean(),
+                application.getSocial(),
+                application.getHistory(),
+                application.getMath(),
+                application.getScience(),
+                application.getTechAndHome(),
+                application.getEnglish());
     }
 
-    private List<Integer> convertToGradeScores(String gradeString) {
-        return Arrays.stream(gradeString.split(""))
-                .map(this::convertToInteger)
-                .collect(Collectors.toList());
+    public GradeMatrix(String... subjectGrades) {
+        if (subjectGrades.length != SUBJECT_COUNT)
+            throw new IllegalArgumentException("Expected " + SUBJECT_COUNT + " subjects");
+
+        for (int subject = 0; subject < SUBJECT_COUNT; subject++) {
+            String gradeString = subjectGrades[subject];
+            if (gradeString.length() < SEMESTER_COUNT)
+                throw new IndexOutOfBoundsException("Grade string is shorter than " + SEMESTER_COUNT + ": " + gradeString);
+
+            for (int semester = 0; semester < SEMESTER_COUNT; semester++) {
+                set(semester, subject, convertToInteger(gradeString.charAt(semester)));
+            }
+        }
     }
 
-    private Integer convertToInteger(String singleGradeString) {
-        switch (singleGradeString) {
-            case "A":
+    private int convertToInteger(char singleGrade) {
+        switch (singleGrade) {
+            case 'A':
                 return 5;
-            case "B":
+            case 'B':
                 return 4;
-            case "C":
+            case 'C':
                 return 3;
-            case "D":
+            case 'D':
                 return 2;
-            case "E":
+            case 'E':
                 return 1;
             default:
                 return 0;
         }
     }
 
-    public List<List<Integer>> getMatrix() {
-        return matrix;
+    public int get(int semester, int subject) {
+        return grades[semester * SUBJECT_COUNT + subject];
+    }
+
+    public int getSemesterSum(int semester) {
+        return semesterSums[semester];
+    }
+
+    public int getSemesterCount(int semester) {
+        return semesterCounts[semester];
+    }
+
+    public void copySemester(int from, int to) {
+        for (int subject = 0; subject < SUBJECT_COUNT; subject++) {
+            set(to, subject, get(from, subject));
+        }
+    }
+
+    private void set(int semester, int subject, int grade) {
+        int index = semester * SUBJECT_COUNT + subject;
+        int previous = grades[index];
+
+        grades[index] = grade;
+        semesterSums[semester] += grade - previous;
+        if (previous == 0 && grade != 0) semesterCounts[semester]++;
+        else if (previous != 0 && grade == 0) semesterCounts[semester]--;
     }
 
 }
@@ -0,0 +1,150 @@
+package kr.hs.entrydsm.husky.domain.image.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+// Photo bytes by S3 object name. Object names are random, so an entry only goes stale when the photo is deleted.
+// Entries pushed out of memory are spilled to disk when image.cache.disk.enabled is set.
+@Slf4j
+@Component
+public class ImageCache {
+
+    private static final long MEGABYTE = 1024 * 1024;
+
+    private final Cache<String, byte[]> memory;
+    private final Cache<String, Integer> disk;
+    private final Path directory;
+    private final boolean diskEnabled;
+
+    public ImageCache(MeterRegistry meterRegistry,
+                      @Value("${image.cache.memory-max-size-mb}") long memoryMaxSizeMb,
+                      @Value("${image.cache.disk.enabled}") boolean diskEnabled,
+                      @Value("${image.cache.disk.directory}") String directory,
+                      @Value("${image.cache.disk.max-size-mb}") long diskMaxSizeMb) throws IOException {
+        this.diskEnabled = diskEnabled;
+        this.directory = Paths.get(directory);
+
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(memoryMaxSizeMb * MEGABYTE)
+                .weigher((String objectName, byte[] image) -> image.length)
+                .removalListener((String objectName, byte[] image, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE)
+                        spill(objectName, image);
+                })
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+
+        this.disk = Caffeine.newBuilder()
+                .maximumWeight(diskMaxSizeMb * MEGABYTE)
+                .weigher((String objectName, Integer size) -> size)
+                .removalListener((String objectName, Integer size, RemovalCause cause) -> {
+                    if (cause != RemovalCause.REPLACED)
+                        deleteFile(objectName);
+                })
+                .executor(Runnable::run)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "image.cache");
+
+        if (diskEnabled)
+            loadSpilledFiles();
+    }
+
+    public byte[] get(String objectName, Callable<byte[]> loader) throws IOException {
+        try {
+            return memory.get(objectName, key -> load(key, loader));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public void invalidate(String objectName) {
+        memory.invalidate(objectName);
+        disk.invalidate(objectName);
+    }
+
+    private byte[] load(String objectName, Callable<byte[]> loader) {
+        try {
+            if (disk.getIfPresent(objectName) != null) {
+                byte[] image = readFile(objectName);
+                if (image != null) {
+                    disk.invalidate(objectName);
+                    return image;
+                }
+            }
+            return loader.call();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void spill(String objectName, byte[] image) {
+        if (!diskEnabled)
+            return;
+
+        try {
+            Files.write(toFile(objectName), image);
+            disk.put(objectName, image.length);
+        } catch (IOException e) {
+            log.warn("Failed to spill image {} to disk", objectName, e);
+        }
+    }
+
+    private byte[] readFile(String objectName) throws IOException {
+        try {
+            return Files.readAllBytes(toFile(objectName));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private void deleteFile(String objectName) {
+        try {
+            Files.deleteIfExists(toFile(objectName));
+        } catch (IOException e) {
+            log.warn("Failed to delete spilled image {}", objectName, e);
+        }
+    }
+
+    private void loadSpilledFiles() throws IOException {
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                try {
+                    String objectName = URLDecoder.decode(file.getFileName().toString(), StandardCharsets.UTF_8);
+                    disk.put(objectName, (int) Files.size(file));
+                } catch (IOException e) {
+                    log.warn("Failed to load spilled image {}", file, e);
+                }
+            });
+        }
+    }
+
+    private Path toFile(String objectName) {
+        return directory.resolve(URLEncoder.encode(objectName, StandardCharsets.UTF_8));
+    }
+
+}
@@ -10,6 +10,7 @@ public interface ImageService {
     String upload(MultipartFile file) throws IOException;
     String generateObjectUrl(String objectName) throws MalformedURLException;
     byte[] getObject(String fileName) throws IOException;
+    byte[] getPdfImage(String objectName) throws IOException;
     void delete(String objectName);
 
 }
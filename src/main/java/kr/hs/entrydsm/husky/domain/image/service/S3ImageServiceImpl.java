@@ -2,17 +2,22 @@ package kr.hs.entrydsm.husky.domain.image.service;
 
 import com.amazonaws.auth.AWS4Signer;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.util.IOUtils;
+import kr.hs.entrydsm.husky.domain.image.util.ImageResizer;
 import kr.hs.entrydsm.husky.infra.s3.auth.AWS4SignerBase;
 import kr.hs.entrydsm.husky.infra.s3.util.BinaryUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -21,6 +26,7 @@ import java.util.*;
 
 import static kr.hs.entrydsm.husky.infra.s3.auth.AWS4SignerBase.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3ImageServiceImpl extends AWS4Signer implements ImageService {
@@ -35,6 +41,7 @@ public class S3ImageServiceImpl extends AWS4Signer implements ImageService {
     private final SimpleDateFormat dateStampFormat = new SimpleDateFormat("yyyyMMdd");
 
     private final AmazonS3 s3;
+    private final ImageCache imageCache;
 
     @Value("${aws.s3.access_key}")
     private String accessKey;
@@ -58,15 +65,35 @@ public class S3ImageServiceImpl extends AWS4Signer implements ImageService {
         String randomName = UUID.randomUUID().toString();
         String filename = randomName + "." + ext;
 
-        s3.putObject(new PutObjectRequest(bucket, "images/" + filename, file.getInputStream(), null)
-                .withCannedAcl(CannedAccessControlList.AuthenticatedRead));
+        byte[] image = file.getBytes();
+        putObject("images/" + filename, image, file.getContentType());
+
+        try {
+            ImageResizer.toPdfImage(image).ifPresent(pdfImage ->
+                    putObject("images/" + ImageResizer.toPdfImageName(filename), pdfImage, "image/jpeg"));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to create pdf image of {}", filename, e);
+        }
 
         return filename;
     }
 
+    private void putObject(String key, byte[] content, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType(contentType);
+
+        s3.putObject(new PutObjectRequest(bucket, key, new ByteArrayInputStream(content), metadata)
+                .withCannedAcl(CannedAccessControlList.AuthenticatedRead));
+    }
+
     @Override
     public void delete(String objectName) {
+        String pdfImageName = ImageResizer.toPdfImageName(objectName);
         s3.deleteObject(bucket, objectName);
+        s3.deleteObject(bucket, pdfImageName);
+        imageCache.invalidate(objectName);
+        imageCache.invalidate(pdfImageName);
     }
 
     @Override
@@ -129,9 +156,30 @@ public class S3ImageServiceImpl extends AWS4Signer implements ImageService {
         return authString.toString();
     }
 
+    // Photos uploaded before the pdf image existed, or that could not be decoded, fall back to the original.
+    // The original is cached under the pdf image name, so the missing object is only looked up once.
+    @Override
+    public byte[] getPdfImage(String objectName) throws IOException {
+        String pdfImageName = ImageResizer.toPdfImageName(objectName);
+        return imageCache.get(pdfImageName, () -> {
+            try {
+                return download(pdfImageName);
+            } catch (AmazonS3Exception e) {
+                if (e.getStatusCode() != 404)
+                    throw e;
+                return download(objectName);
+            }
+        });
+    }
+
     public byte[] getObject(String fileName) throws IOException {
-        S3Object object = s3.getObject(bucket, fileName);
-        return IOUtils.toByteArray(object.getObjectContent());
+        return imageCache.get(fileName, () -> download(fileName));
+    }
+
+    private byte[] download(String fileName) throws IOException {
+        try (S3Object object = s3.getObject(bucket, fileName)) {
+            return IOUtils.toByteArray(object.getObjectContent());
+        }
     }
 
 }
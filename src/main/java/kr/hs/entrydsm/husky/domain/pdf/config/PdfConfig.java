@@ -1,39 +1,61 @@
 package kr.hs.entrydsm.husky.domain.pdf.config;
 
-import com.itextpdf.html2pdf.ConverterProperties;
 import com.itextpdf.html2pdf.resolver.font.DefaultFontProvider;
 import com.itextpdf.io.font.FontProgram;
 import com.itextpdf.io.font.FontProgramFactory;
 import com.itextpdf.layout.font.FontProvider;
+import com.itextpdf.layout.font.FontSet;
+import io.micrometer.core.instrument.MeterRegistry;
 import kr.hs.entrydsm.husky.domain.pdf.constant.Font;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.StandardCacheManager;
+import org.thymeleaf.spring5.SpringTemplateEngine;
 import org.thymeleaf.templatemode.TemplateMode;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class PdfConfig {
 
+    private static final int TEMPLATE_CACHE_SIZE = 16;
+
+    private final MeterRegistry meterRegistry;
+
+    // A SpringTemplateEngine so that Boot's auto-configured engine backs off and this one is used for rendering.
     @Bean
-    public TemplateEngine getTemplateEngineBean() {
+    public SpringTemplateEngine getTemplateEngineBean() {
         ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates");
         templateResolver.setSuffix(".html");
         templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        templateResolver.setCacheable(true);
+        templateResolver.setCacheTTLMs(null);
+
+        StandardCacheManager cacheManager = new StandardCacheManager();
+        cacheManager.setTemplateCacheInitialSize(TEMPLATE_CACHE_SIZE);
+        cacheManager.setTemplateCacheMaxSize(TEMPLATE_CACHE_SIZE);
 
-        TemplateEngine templateEngine = new TemplateEngine();
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
         templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.setCacheManager(cacheManager);
 
         return templateEngine;
     }
 
-    public static ConverterProperties createConverterProperties() {
-        ConverterProperties properties = new ConverterProperties();
+    // Parsed once and shared read-only by every render; each render wraps it in its own FontProvider.
+    @Bean
+    public PdfFontSet getPdfFontSetBean() {
+        long startedAt = System.nanoTime();
         FontProvider fontProvider = new DefaultFontProvider(false, false, false);
 
         List.of(
@@ -50,8 +72,11 @@ public class PdfConfig {
                     }
                 });
 
-        properties.setFontProvider(fontProvider);
-        return properties;
+        long elapsed = System.nanoTime() - startedAt;
+        meterRegistry.timer("pdf.font.load").record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Loaded {} pdf fonts in {} ms", fontProvider.getFontSet().size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+        return new PdfFontSet(fontProvider.getFontSet(), fontProvider.getDefaultFontFamily());
     }
 
 }
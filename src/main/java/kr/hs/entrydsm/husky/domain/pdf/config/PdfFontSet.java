@@ -0,0 +1,22 @@
+package kr.hs.entrydsm.husky.domain.pdf.config;
+
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.layout.font.FontSet;
+import com.itextpdf.styledxmlparser.resolver.font.BasicFontProvider;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class PdfFontSet {
+
+    private final FontSet fontSet;
+    private final String defaultFontFamily;
+
+    public ConverterProperties createConverterProperties() {
+        ConverterProperties properties = new ConverterProperties();
+        properties.setFontProvider(new BasicFontProvider(fontSet, defaultFontFamily));
+        return properties;
+    }
+
+}
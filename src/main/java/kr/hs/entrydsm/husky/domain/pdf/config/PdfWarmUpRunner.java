@@ -0,0 +1,76 @@
+package kr.hs.entrydsm.husky.domain.pdf.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hs.entrydsm.husky.domain.pdf.constant.TemplateFileName;
+import kr.hs.entrydsm.husky.domain.pdf.processor.PdfRenderProcessor;
+import kr.hs.entrydsm.husky.domain.pdf.util.PdfStreamMerger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+// Runs before the readiness state flips to ACCEPTING_TRAFFIC, so the first applicants after a deploy
+// do not pay for template parsing and the first layout pass.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PdfWarmUpRunner implements ApplicationRunner {
+
+    private static final List<String> TEMPLATES = List.of(
+            TemplateFileName.APPLICATION_FOR_ADMISSION,
+            TemplateFileName.INTRODUCTION,
+            TemplateFileName.RECOMMENDATION,
+            TemplateFileName.NON_SMOKING,
+            TemplateFileName.ADMISSION_AGREEMENT);
+
+    private final PdfRenderProcessor pdfRenderProcessor;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.nanoTime();
+
+        try (PdfStreamMerger merger = new PdfStreamMerger(OutputStream.nullOutputStream())) {
+            List<Future<ByteArrayOutputStream>> documents = pdfRenderProcessor.renderAll(TEMPLATES, createSampleData());
+            for (Future<ByteArrayOutputStream> document : documents) {
+                merger.append(pdfRenderProcessor.await(document));
+            }
+        } catch (Exception e) {
+            meterRegistry.counter("pdf.warmup.failures").increment();
+            log.warn("PDF warm-up failed", e);
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        meterRegistry.timer("pdf.warmup").record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Warmed up {} pdf templates in {} ms", TEMPLATES.size(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private Map<String, Object> createSampleData() {
+        Map<String, Object> data = new HashMap<>();
+        List.of("receiptCode", "userName", "gender", "birthDate", "address", "detailAddress",
+                "applicantTel", "parentTel", "homeTel", "parentName",
+                "schoolName", "schoolCode", "schoolClass", "schoolTel",
+                "graduatedYear", "graduatedMonth", "unGraduatedMonth", "gedPassedYear", "gedPassedMonth",
+                "conversionScore1st", "conversionScore2nd", "conversionScore3rd", "conversionScore",
+                "attendanceScore", "volunteerScore", "finalScore", "year", "month", "day",
+                "selfIntroduction", "studyPlan", "base64Image")
+                .forEach(key -> data.put(key, ""));
+        List.of("isMale", "isFemale", "isGraduated", "isUnGraduated", "isGed",
+                "isCommon", "isMeister", "isSocialMerit", "isDaejeon", "isNotDaejeon",
+                "isNationalMerit", "isPrivilegedAdmission",
+                "isDaejeonAndMeister", "isDaejeonAndSocialMerit", "isNotDaejeonAndMeister", "isNotDaejeonAndSocialMerit")
+                .forEach(key -> data.put(key, "☐"));
+        data.put("newLineChar", "\n");
+        return data;
+    }
+
+}
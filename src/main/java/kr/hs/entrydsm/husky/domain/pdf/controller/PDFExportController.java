@@ -1,14 +1,19 @@
 package kr.hs.entrydsm.husky.domain.pdf.controller;
 
 import kr.hs.entrydsm.husky.domain.pdf.service.PDFExportService;
+import kr.hs.entrydsm.husky.global.config.AbortResponseValve;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @RestController
@@ -19,14 +24,31 @@ public class PDFExportController {
     private final PDFExportService pdfExportService;
 
     @GetMapping(value = "/preview", produces = MediaType.APPLICATION_PDF_VALUE)
-    public byte[] getPDFApplicationPreview() {
-        return pdfExportService.getPDFApplicationPreview();
+    public void getPDFApplicationPreview(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        write(request, response, pdfExportService::writePDFApplicationPreview);
     }
 
     @GetMapping(value = "/final", produces = MediaType.APPLICATION_PDF_VALUE)
-    public byte[] getFinalPDFApplication(HttpServletResponse response) {
+    public void getFinalPDFApplication(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
         response.setHeader("Content-Disposition", String.format("attachment; filename=\"%s.pdf\"", encodeFileName(FILE_NAME)));
-        return pdfExportService.getFinalPDFApplication();
+        write(request, response, pdfExportService::writeFinalPDFApplication);
+    }
+
+    // The PDF is streamed, so a render can fail after part of it has been sent. Until then the response is reset
+    // for the error body; after that the connection is dropped so the client does not keep a truncated file.
+    private void write(HttpServletRequest request, HttpServletResponse response,
+                       Consumer<OutputStream> writer) throws IOException {
+        try {
+            writer.accept(response.getOutputStream());
+        } catch (RuntimeException e) {
+            if (!response.isCommitted()) {
+                response.reset();
+                throw e;
+            }
+            AbortResponseValve.abort(request);
+        }
     }
 
     private String encodeFileName(String fileName) {
@@ -0,0 +1,37 @@
+package kr.hs.entrydsm.husky.domain.pdf.controller;
+
+import kr.hs.entrydsm.husky.domain.pdf.dto.PdfBatchStatusResponse;
+import kr.hs.entrydsm.husky.domain.pdf.service.PdfBatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/admin/applications/pdf")
+public class PdfBatchController {
+
+    private final PdfBatchService pdfBatchService;
+
+    @PostMapping
+    @ResponseStatus(value = HttpStatus.ACCEPTED)
+    public PdfBatchStatusResponse startBatch(@RequestHeader("secret") String secret) {
+        return pdfBatchService.startBatch(secret);
+    }
+
+    @GetMapping
+    public PdfBatchStatusResponse getBatchStatus(@RequestHeader("secret") String secret) {
+        return pdfBatchService.getBatchStatus(secret);
+    }
+
+    @GetMapping("/archive")
+    public void getBatchArchive(@RequestHeader("secret") String secret, HttpServletResponse response) throws IOException {
+        response.setContentType("application/zip");
+        response.setHeader("Content-Disposition", "attachment; filename=\"applications.zip\"");
+        pdfBatchService.writeBatchArchive(secret, response.getOutputStream());
+    }
+
+}
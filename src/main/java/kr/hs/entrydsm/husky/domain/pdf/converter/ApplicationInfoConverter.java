@@ -2,10 +2,7 @@ package kr.hs.entrydsm.husky.domain.pdf.converter;
 
 import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
 import kr.hs.entrydsm.husky.domain.application.domain.GeneralApplication;
-import kr.hs.entrydsm.husky.domain.application.domain.repositories.GEDApplicationRepository;
-import kr.hs.entrydsm.husky.domain.application.domain.repositories.GeneralApplicationRepository;
-import kr.hs.entrydsm.husky.domain.application.domain.repositories.GraduatedApplicationRepository;
-import kr.hs.entrydsm.husky.domain.application.domain.repositories.UnGraduatedApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
 import kr.hs.entrydsm.husky.domain.image.service.ImageService;
 import kr.hs.entrydsm.husky.domain.user.domain.User;
 import kr.hs.entrydsm.husky.global.util.Validator;
@@ -14,11 +11,12 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import static kr.hs.entrydsm.husky.domain.user.domain.enums.AdditionalType.NATIONAL_MERIT;
 import static kr.hs.entrydsm.husky.domain.user.domain.enums.AdditionalType.PRIVILEGED_ADMISSION;
@@ -27,24 +25,21 @@ import static kr.hs.entrydsm.husky.domain.user.domain.enums.AdditionalType.PRIVI
 @RequiredArgsConstructor
 public class ApplicationInfoConverter {
 
-    private final GEDApplicationRepository gedApplicationRepository;
-    private final GeneralApplicationRepository generalApplicationRepository;
-    private final GraduatedApplicationRepository graduatedApplicationRepository;
-    private final UnGraduatedApplicationRepository unGraduatedApplicationRepository;
-
     private final ImageService imageService;
 
-    public Map<String, Object> applicationToInfo(User user, CalculatedScore calculatedScore) throws IOException {
+    public Map<String, Object> applicationToInfo(ApplicantSnapshot snapshot, CalculatedScore calculatedScore,
+                                                 LocalDate date) throws IOException {
+        User user = snapshot.getUser();
         Map<String, Object> values = new HashMap<>();
         setReceiptCode(values, user);
         setPersonalInfo(values, user);
         setGenderInfo(values, user);
-        setSchoolInfo(values, user);
+        setSchoolInfo(values, snapshot);
         setPhoneNumber(values, user);
-        setGraduationClassification(values, user);
+        setGraduationClassification(values, snapshot);
         setUserType(values, user);
         setGradeScore(values, user, calculatedScore);
-        setLocalDate(values);
+        setLocalDate(values, date);
         setIntroduction(values, user);
         setParentInfo(values, user);
 
@@ -86,8 +81,9 @@ public class ApplicationInfoConverter {
         values.put("gender", setBlankIfNull(gender));
     }
 
-    private void setSchoolInfo(Map<String, Object> values, User user) {
-        GeneralApplication generalApplication = getGeneralApplication(user);
+    private void setSchoolInfo(Map<String, Object> values, ApplicantSnapshot snapshot) {
+        User user = snapshot.getUser();
+        GeneralApplication generalApplication = snapshot.getGeneralApplication();
         if (!user.isGradeTypeEmpty() && !user.isGED() && generalApplication != null) {
             values.put("schoolCode", setBlankIfNull(generalApplication.getSchoolCode()));
             values.put("schoolClass", setBlankIfNull(generalApplication.getSchoolClass()));
@@ -114,12 +110,12 @@ public class ApplicationInfoConverter {
         values.put("homeTel", toFormattedPhoneNumber(homeTel));
     }
 
-    private void setGraduationClassification(Map<String, Object> values, User user) {
+    private void setGraduationClassification(Map<String, Object> values, ApplicantSnapshot snapshot) {
         values.putAll(emptyGraduationClassification());
 
-        switch (user.getGradeType()) {
+        switch (snapshot.getUser().getGradeType()) {
             case GED:
-                gedApplicationRepository.findById(user.getReceiptCode())
+                Optional.ofNullable(snapshot.getGedApplication())
                         .filter(ged -> ged.getGedPassDate() != null)
                         .ifPresent(ged -> {
                             values.put("gedPassedYear", String.valueOf(ged.getGedPassDate().getYear()));
@@ -128,7 +124,7 @@ public class ApplicationInfoConverter {
                 break;
 
             case GRADUATED:
-                graduatedApplicationRepository.findById(user.getReceiptCode())
+                Optional.ofNullable(snapshot.getGeneralApplication())
                         .filter(graduated -> graduated.getGraduatedDate() != null)
                         .ifPresent(graduated -> {
                             values.put("graduatedYear", String.valueOf(graduated.getGraduatedDate().getYear()));
@@ -137,7 +133,7 @@ public class ApplicationInfoConverter {
                 break;
 
             case UNGRADUATED:
-                unGraduatedApplicationRepository.findById(user.getReceiptCode())
+                Optional.ofNullable(snapshot.getGeneralApplication())
                         .filter(unGraduated -> unGraduated.getGraduatedDate() != null)
                         .ifPresent(unGraduated -> {
                             values.put("unGraduatedMonth", String.valueOf(unGraduated.getGraduatedDate().getMonthValue()));
@@ -178,11 +174,10 @@ public class ApplicationInfoConverter {
         values.put("finalScore", calculatedScore.getFinalScore().toString());
     }
 
-    private void setLocalDate(Map<String, Object> values) {
-        LocalDateTime now = LocalDateTime.now();
-        values.put("year", String.valueOf(now.getYear()));
-        values.put("month", String.valueOf(now.getMonthValue()));
-        values.put("day", String.valueOf(now.getDayOfMonth()));
+    private void setLocalDate(Map<String, Object> values, LocalDate date) {
+        values.put("year", String.valueOf(date.getYear()));
+        values.put("month", String.valueOf(date.getMonthValue()));
+        values.put("day", String.valueOf(date.getDayOfMonth()));
     }
 
     private void setIntroduction(Map<String, Object> values, User user) {
@@ -207,7 +202,7 @@ public class ApplicationInfoConverter {
     }
 
     private void setBase64Image(Map<String, Object> values, User user) throws IOException {
-        byte[] image = imageService.getObject(user.getUserPhoto());
+        byte[] image = imageService.getPdfImage(user.getUserPhoto());
         String base64EncodedImage = new String(Base64.getEncoder().encode(image), StandardCharsets.UTF_8);
         values.put("base64Image", base64EncodedImage);
     }
@@ -232,8 +227,4 @@ public class ApplicationInfoConverter {
         return (input == null) ? "" : input;
     }
 
-    private GeneralApplication getGeneralApplication(User user) {
-        return generalApplicationRepository.findByUser(user);
-    }
-
 }
@@ -1,16 +1,21 @@
 package kr.hs.entrydsm.husky.domain.pdf.converter;
 
 import com.itextpdf.html2pdf.ConverterProperties;
+import kr.hs.entrydsm.husky.domain.pdf.config.PdfFontSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
 
-import static kr.hs.entrydsm.husky.domain.pdf.config.PdfConfig.createConverterProperties;
-
+@Component
+@RequiredArgsConstructor
 public class HtmlConverter {
 
-    public static ByteArrayOutputStream convertHtmlToPdf(String html) {
+    private final PdfFontSet pdfFontSet;
+
+    public ByteArrayOutputStream convertHtmlToPdf(String html) {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        ConverterProperties converterProperties = createConverterProperties();
+        ConverterProperties converterProperties = pdfFontSet.createConverterProperties();
         com.itextpdf.html2pdf.HtmlConverter.convertToPdf(html, outputStream, converterProperties);
         return outputStream;
     }
@@ -0,0 +1,25 @@
+package kr.hs.entrydsm.husky.domain.pdf.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PdfBatchStatusResponse {
+
+    private String state;
+    private int total;
+    private int rendered;
+    private int skipped;
+    private int failed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private boolean archiveReady;
+
+}
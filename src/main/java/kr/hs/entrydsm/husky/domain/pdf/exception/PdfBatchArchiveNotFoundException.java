@@ -0,0 +1,8 @@
+package kr.hs.entrydsm.husky.domain.pdf.exception;
+
+import kr.hs.entrydsm.husky.global.error.exception.BusinessException;
+import kr.hs.entrydsm.husky.global.error.exception.ErrorCode;
+
+public class PdfBatchArchiveNotFoundException extends BusinessException {
+    public PdfBatchArchiveNotFoundException() { super(ErrorCode.PDF_BATCH_ARCHIVE_NOT_FOUND); }
+}
@@ -0,0 +1,8 @@
+package kr.hs.entrydsm.husky.domain.pdf.exception;
+
+import kr.hs.entrydsm.husky.global.error.exception.BusinessException;
+import kr.hs.entrydsm.husky.global.error.exception.ErrorCode;
+
+public class PdfRenderOverloadedException extends BusinessException {
+    public PdfRenderOverloadedException() { super(ErrorCode.PDF_RENDER_OVERLOADED); }
+}
@@ -0,0 +1,87 @@
+package kr.hs.entrydsm.husky.domain.pdf.processor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import kr.hs.entrydsm.husky.domain.pdf.converter.HtmlConverter;
+import kr.hs.entrydsm.husky.domain.pdf.exception.PdfRenderOverloadedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Renders templates on its own bounded pool. When the queue is full the request fails fast instead of piling up,
+// and a template that does not finish within the timeout is cancelled and reported the same way.
+@Component
+public class PdfRenderProcessor {
+
+    private final TemplateProcessor templateProcessor;
+    private final HtmlConverter htmlConverter;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public PdfRenderProcessor(TemplateProcessor templateProcessor, HtmlConverter htmlConverter, MeterRegistry meterRegistry,
+                              @Value("${pdf.render.pool-size}") int poolSize,
+                              @Value("${pdf.render.queue-capacity}") int queueCapacity,
+                              @Value("${pdf.render.timeout}") Duration timeout) {
+        this.templateProcessor = templateProcessor;
+        this.htmlConverter = htmlConverter;
+        this.meterRegistry = meterRegistry;
+        this.timeout = timeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "pdf-render-" + threadNumber.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "pdf.render", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public List<Future<ByteArrayOutputStream>> renderAll(List<String> templates, Map<String, Object> data) {
+        List<Future<ByteArrayOutputStream>> documents = new ArrayList<>(templates.size());
+        try {
+            for (String template : templates) {
+                documents.add(executor.submit(() -> render(template, data)));
+            }
+        } catch (RejectedExecutionException e) {
+            documents.forEach(document -> document.cancel(true));
+            meterRegistry.counter("pdf.render.rejected").increment();
+            throw new PdfRenderOverloadedException();
+        }
+        return documents;
+    }
+
+    public ByteArrayOutputStream await(Future<ByteArrayOutputStream> document) {
+        try {
+            return document.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            document.cancel(true);
+            meterRegistry.counter("pdf.render.timeout").increment();
+            throw new PdfRenderOverloadedException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ByteArrayOutputStream render(String template, Map<String, Object> data) {
+        return meterRegistry.timer("pdf.render", "template", template)
+                .record(() -> htmlConverter.convertHtmlToPdf(templateProcessor.process(template, data)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,220 @@
+package kr.hs.entrydsm.husky.domain.pdf.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hs.entrydsm.husky.domain.pdf.util.TeeOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Rendered PDFs stored on disk as <receiptCode>-<sha256 of template versions and submission time>.pdf.
+// A changed template or a new submission changes the key, and the stale entry of that applicant is dropped on the next put.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FilePdfCacheServiceImpl implements PdfCacheService {
+
+    private static final String EXTENSION = ".pdf";
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("^\\d+-[0-9a-f]{64}\\.pdf$");
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, String> templateVersions = new ConcurrentHashMap<>();
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Integer, String> entryByReceiptCode = new HashMap<>();
+    private long totalSize;
+
+    @Value("${pdf.cache.directory}")
+    private String directory;
+
+    @Value("${pdf.cache.max-size-mb}")
+    private long maxSizeMb;
+
+    @PostConstruct
+    public void loadEntries() throws IOException {
+        Path cacheDirectory = Files.createDirectories(Paths.get(directory));
+
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(cacheDirectory)) {
+            paths.forEach(files::add);
+        }
+        files.sort(Comparator.comparingLong(this::lastModified));
+
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            if (FILE_NAME_PATTERN.matcher(fileName).matches()) {
+                addEntry(fileName, Files.size(file));
+            } else if (fileName.endsWith(".tmp")) {
+                Files.deleteIfExists(file);
+            }
+        }
+        evict();
+        log.info("Loaded {} cached pdf files ({} bytes)", entries.size(), totalSize);
+    }
+
+    @Override
+    public String generateKey(List<String> templates, LocalDateTime submittedAt) {
+        MessageDigest digest = sha256();
+        for (String template : templates) {
+            update(digest, template);
+            update(digest, templateVersions.computeIfAbsent(template, this::hashTemplate));
+        }
+        update(digest, String.valueOf(submittedAt));
+        return toHex(digest.digest());
+    }
+
+    @Override
+    public boolean writeCached(Integer receiptCode, String key, OutputStream outputStream) throws IOException {
+        String fileName = fileName(receiptCode, key);
+        synchronized (this) {
+            if (entries.get(fileName) == null) {
+                meterRegistry.counter("pdf.cache", "result", "miss").increment();
+                return false;
+            }
+        }
+
+        try {
+            Files.copy(Paths.get(directory, fileName), outputStream);
+        } catch (NoSuchFileException e) {
+            removeEntry(fileName);
+            meterRegistry.counter("pdf.cache", "result", "miss").increment();
+            return false;
+        }
+        meterRegistry.counter("pdf.cache", "result", "hit").increment();
+        return true;
+    }
+
+    @Override
+    public void writeAndCache(Integer receiptCode, String key, OutputStream outputStream,
+                              Consumer<OutputStream> renderer) throws IOException {
+        Path temp = Files.createTempFile(Paths.get(directory), receiptCode + "-", ".tmp");
+        try {
+            try (OutputStream fileOutputStream = Files.newOutputStream(temp)) {
+                renderer.accept(new TeeOutputStream(outputStream, fileOutputStream));
+            }
+
+            String fileName = fileName(receiptCode, key);
+            Files.move(temp, Paths.get(directory, fileName),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            put(receiptCode, fileName, Files.size(Paths.get(directory, fileName)));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private synchronized void put(Integer receiptCode, String fileName, long size) {
+        String previous = entryByReceiptCode.get(receiptCode);
+        if (previous != null && !previous.equals(fileName))
+            deleteEntry(previous);
+
+        addEntry(fileName, size);
+        evict();
+    }
+
+    private synchronized void addEntry(String fileName, long size) {
+        Long previousSize = entries.put(fileName, size);
+        if (previousSize != null)
+            totalSize -= previousSize;
+        totalSize += size;
+        entryByReceiptCode.put(receiptCode(fileName), fileName);
+    }
+
+    private synchronized void removeEntry(String fileName) {
+        Long size = entries.remove(fileName);
+        if (size != null)
+            totalSize -= size;
+        entryByReceiptCode.remove(receiptCode(fileName), fileName);
+    }
+
+    private synchronized void evict() {
+        long maxSize = maxSizeMb * 1024 * 1024;
+        Iterator<String> eldest = entries.keySet().iterator();
+        while (totalSize > maxSize && eldest.hasNext()) {
+            String fileName = eldest.next();
+            eldest.remove();
+            totalSize -= deleteFile(fileName);
+            entryByReceiptCode.remove(receiptCode(fileName), fileName);
+        }
+    }
+
+    private void deleteEntry(String fileName) {
+        removeEntry(fileName);
+        deleteFile(fileName);
+    }
+
+    private long deleteFile(String fileName) {
+        Path file = Paths.get(directory, fileName);
+        try {
+            long size = Files.size(file);
+            Files.deleteIfExists(file);
+            return size;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private String hashTemplate(String template) {
+        MessageDigest digest = sha256();
+        try (InputStream inputStream = new ClassPathResource("templates" + template + ".html").getInputStream()) {
+            digest.update(inputStream.readAllBytes());
+        } catch (IOException e) {
+            update(digest, template);
+        }
+        return toHex(digest.digest());
+    }
+
+    private String fileName(Integer receiptCode, String key) {
+        return receiptCode + "-" + key + EXTENSION;
+    }
+
+    private Integer receiptCode(String fileName) {
+        return Integer.valueOf(fileName.substring(0, fileName.indexOf('-')));
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes)
+            builder.append(String.format("%02x", b));
+        return builder.toString();
+    }
+
+}
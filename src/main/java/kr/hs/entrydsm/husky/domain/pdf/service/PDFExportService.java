@@ -1,6 +1,11 @@
 package kr.hs.entrydsm.husky.domain.pdf.service;
 
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+
+import java.io.OutputStream;
+
 public interface PDFExportService {
-    byte[] getPDFApplicationPreview();
-    byte[] getFinalPDFApplication();
+    void writePDFApplicationPreview(OutputStream outputStream);
+    void writeFinalPDFApplication(OutputStream outputStream);
+    void writePDFApplication(User user, OutputStream outputStream);
 }
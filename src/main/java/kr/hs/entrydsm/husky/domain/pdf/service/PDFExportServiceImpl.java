@@ -1,87 +1,101 @@
 package kr.hs.entrydsm.husky.domain.pdf.service;
 
 import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GeneralApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
 import kr.hs.entrydsm.husky.domain.grade.exception.UserNotFoundException;
 import kr.hs.entrydsm.husky.domain.grade.service.GradeCalcService;
 import kr.hs.entrydsm.husky.domain.pdf.constant.TemplateFileName;
 import kr.hs.entrydsm.husky.domain.pdf.converter.ApplicationInfoConverter;
-import kr.hs.entrydsm.husky.domain.pdf.converter.HtmlConverter;
 import kr.hs.entrydsm.husky.domain.pdf.exception.FinalSubmitRequiredException;
 import kr.hs.entrydsm.husky.domain.pdf.exception.UnprocessableEntityException;
-import kr.hs.entrydsm.husky.domain.pdf.processor.TemplateProcessor;
-import kr.hs.entrydsm.husky.domain.pdf.util.PdfMergeUtil;
+import kr.hs.entrydsm.husky.domain.pdf.processor.PdfRenderProcessor;
+import kr.hs.entrydsm.husky.domain.pdf.util.PdfStreamMerger;
 import kr.hs.entrydsm.husky.domain.user.domain.Status;
 import kr.hs.entrydsm.husky.domain.user.domain.User;
 import kr.hs.entrydsm.husky.domain.user.domain.repositories.StatusRepository;
 import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
 import kr.hs.entrydsm.husky.global.config.security.AuthenticationFacade;
+import kr.hs.entrydsm.husky.global.error.exception.BusinessException;
 import kr.hs.entrydsm.husky.global.slack.SlackSenderManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Future;
 
 @Service
 @RequiredArgsConstructor
 public class PDFExportServiceImpl implements PDFExportService {
 
     private final AuthenticationFacade authFacade;
-    private final TemplateProcessor templateProcessor;
+    private final PdfRenderProcessor pdfRenderProcessor;
     private final SlackSenderManager slackSenderManager;
+    private final PdfCacheService pdfCacheService;
     private final ApplicationInfoConverter applicationInfoConverter;
 
     private final UserRepository userRepository;
     private final StatusRepository statusRepository;
+    private final GeneralApplicationRepository generalApplicationRepository;
 
     private final GradeCalcService gradeCalcService;
 
     @Override
-    public byte[] getPDFApplicationPreview() {
-        return userRepository.findById(authFacade.getReceiptCode())
-                .map(this::generatePDFApplication)
+    public void writePDFApplicationPreview(OutputStream outputStream) {
+        User user = userRepository.findById(authFacade.getReceiptCode())
                 .orElseThrow(UserNotFoundException::new);
+
+        writePDFApplication(user, getTemplates(user), LocalDate.now(), outputStream);
     }
 
+    // A submitted application is keyed by its submission time alone, so a hit is served without loading the snapshot,
+    // calculating the grade or fetching the photo. The printed date is the submission date for the same reason.
     @Override
-    public byte[] getFinalPDFApplication() {
-        return userRepository.findById(authFacade.getReceiptCode())
-                .map(user -> {
-                    statusRepository.findById(user.getReceiptCode())
-                            .filter(Status::isFinalSubmitRequired)
-                            .ifPresent(status -> {
-                                throw new FinalSubmitRequiredException();
-                            });
-                    return generatePDFApplication(user);
-                })
+    public void writeFinalPDFApplication(OutputStream outputStream) {
+        User user = userRepository.findById(authFacade.getReceiptCode())
                 .orElseThrow(UserNotFoundException::new);
-    }
-
-    private byte[] generatePDFApplication(User user) {
-        try {
-            CalculatedScore calculatedScore = gradeCalcService.calcStudentGrade(user);
-            Map<String, Object> data = applicationInfoConverter.applicationToInfo(user, calculatedScore);
 
-            List<String> templates = new LinkedList<>(List.of(
-                    TemplateFileName.APPLICATION_FOR_ADMISSION,
-                    TemplateFileName.INTRODUCTION,
-                    TemplateFileName.NON_SMOKING
-//                    TemplateFileName.ADMISSION_AGREEMENT));
-                    ));
+        Status status = statusRepository.findById(user.getReceiptCode())
+                .filter(Status::isFinalSubmit)
+                .orElseThrow(FinalSubmitRequiredException::new);
 
-            if (!user.isGED() && !user.isCommonApplyType())
-                templates.add(2, TemplateFileName.RECOMMENDATION);
+        List<String> templates = getTemplates(user);
+        LocalDateTime submittedAt = status.getSubmittedAt();
+        try {
+            String key = pdfCacheService.generateKey(templates, submittedAt);
+            if (!pdfCacheService.writeCached(user.getReceiptCode(), key, outputStream))
+                pdfCacheService.writeAndCache(user.getReceiptCode(), key, outputStream,
+                        out -> writePDFApplication(user, templates, submittedAt.toLocalDate(), out));
+        } catch (IOException e) {
+            slackSenderManager.send(e);
+            e.printStackTrace();
+            throw new UnprocessableEntityException();
+        }
+    }
 
-            ByteArrayOutputStream result = templates.parallelStream()
-                    .map(template -> templateProcessor.process(template, data))
-                    .map(HtmlConverter::convertHtmlToPdf)
-                    .reduce(PdfMergeUtil::concatPdf)
-                    .orElseGet(() -> (ByteArrayOutputStream) ByteArrayOutputStream.nullOutputStream());
+    @Override
+    public void writePDFApplication(User user, OutputStream outputStream) {
+        writePDFApplication(user, getTemplates(user), LocalDate.now(), outputStream);
+    }
 
-            return result.toByteArray();
+    private void writePDFApplication(User user, List<String> templates, LocalDate date, OutputStream outputStream) {
+        try {
+            ApplicantSnapshot snapshot = generalApplicationRepository.findSnapshotByUser(user);
+            CalculatedScore calculatedScore = gradeCalcService.calcStudentGrade(snapshot);
+            Map<String, Object> data = applicationInfoConverter.applicationToInfo(snapshot, calculatedScore, date);
 
+            render(templates, data, outputStream);
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             slackSenderManager.send(e);
             e.printStackTrace();
@@ -89,4 +103,37 @@ public class PDFExportServiceImpl implements PDFExportService {
         }
     }
 
+    private List<String> getTemplates(User user) {
+        List<String> templates = new LinkedList<>(List.of(
+                TemplateFileName.APPLICATION_FOR_ADMISSION,
+                TemplateFileName.INTRODUCTION,
+                TemplateFileName.NON_SMOKING
+//                TemplateFileName.ADMISSION_AGREEMENT));
+                ));
+
+        if (!user.isGED() && !user.isCommonApplyType())
+            templates.add(2, TemplateFileName.RECOMMENDATION);
+
+        return templates;
+    }
+
+    // Each template is appended as soon as it and the ones before it are done, and its buffer is dropped right after,
+    // so only templates still in flight are held. The merger writes nothing until the first template is ready; a later
+    // failure leaves the document unterminated and the caller abandons the response.
+    private void render(List<String> templates, Map<String, Object> data, OutputStream outputStream) {
+        Queue<Future<ByteArrayOutputStream>> documents = new ArrayDeque<>(pdfRenderProcessor.renderAll(templates, data));
+        try {
+            PdfStreamMerger merger = null;
+            while (!documents.isEmpty()) {
+                ByteArrayOutputStream rendered = pdfRenderProcessor.await(documents.remove());
+                if (merger == null)
+                    merger = new PdfStreamMerger(outputStream);
+                merger.append(rendered);
+            }
+            merger.close();
+        } finally {
+            documents.forEach(document -> document.cancel(true));
+        }
+    }
+
 }
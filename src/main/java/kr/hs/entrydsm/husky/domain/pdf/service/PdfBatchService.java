@@ -0,0 +1,14 @@
+package kr.hs.entrydsm.husky.domain.pdf.service;
+
+import kr.hs.entrydsm.husky.domain.pdf.dto.PdfBatchStatusResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PdfBatchService {
+
+    PdfBatchStatusResponse startBatch(String secret);
+    PdfBatchStatusResponse getBatchStatus(String secret);
+    void writeBatchArchive(String secret, OutputStream outputStream) throws IOException;
+
+}
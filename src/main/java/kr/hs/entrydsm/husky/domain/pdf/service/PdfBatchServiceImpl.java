@@ -0,0 +1,246 @@
+package kr.hs.entrydsm.husky.domain.pdf.service;
+
+import kr.hs.entrydsm.husky.domain.pdf.dto.PdfBatchStatusResponse;
+import kr.hs.entrydsm.husky.domain.pdf.exception.PdfBatchArchiveNotFoundException;
+import kr.hs.entrydsm.husky.domain.pdf.exception.PdfRenderOverloadedException;
+import kr.hs.entrydsm.husky.domain.user.domain.Status;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.StatusRepository;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
+import kr.hs.entrydsm.husky.global.config.security.AdminValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// Writes <directory>/<group>/<receiptCode>.pdf for every final-submitted applicant and zips them at the end.
+// Files that already exist are skipped, so a failed or interrupted run is resumed by starting it again.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PdfBatchServiceImpl implements PdfBatchService {
+
+    private static final String ARCHIVE_NAME = "applications.zip";
+
+    private final StatusRepository statusRepository;
+    private final UserRepository userRepository;
+    private final PDFExportService pdfExportService;
+    private final AdminValidator adminValidator;
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger rendered = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private ExecutorService coordinator;
+    private ExecutorService workers;
+
+    private volatile String state = "IDLE";
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    @Value("${pdf.batch.directory}")
+    private String directory;
+
+    @Value("${pdf.batch.workers}")
+    private int workerCount;
+
+    @Value("${pdf.batch.page-size}")
+    private int pageSize;
+
+    @PostConstruct
+    public void initialize() {
+        coordinator = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "pdf-batch"));
+        workers = Executors.newFixedThreadPool(workerCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    @Override
+    public synchronized PdfBatchStatusResponse startBatch(String secret) {
+        adminValidator.validate(secret);
+
+        if (!"RUNNING".equals(state)) {
+            total.set(0);
+            rendered.set(0);
+            skipped.set(0);
+            failed.set(0);
+            startedAt = LocalDateTime.now();
+            finishedAt = null;
+            state = "RUNNING";
+            coordinator.submit(this::runBatch);
+        }
+
+        return createStatusResponse();
+    }
+
+    @Override
+    public PdfBatchStatusResponse getBatchStatus(String secret) {
+        adminValidator.validate(secret);
+        return createStatusResponse();
+    }
+
+    @Override
+    public void writeBatchArchive(String secret, OutputStream outputStream) throws IOException {
+        adminValidator.validate(secret);
+
+        try {
+            Files.copy(Paths.get(directory, ARCHIVE_NAME), outputStream);
+        } catch (NoSuchFileException e) {
+            throw new PdfBatchArchiveNotFoundException();
+        }
+    }
+
+    private void runBatch() {
+        try {
+            Path root = Files.createDirectories(Paths.get(directory));
+            Files.deleteIfExists(root.resolve(ARCHIVE_NAME));
+
+            Pageable pageable = PageRequest.of(0, pageSize, Sort.by("receiptCode"));
+            Page<Status> page;
+            do {
+                page = statusRepository.findAllByIsFinalSubmitTrue(pageable);
+                total.set((int) page.getTotalElements());
+
+                List<Integer> receiptCodes = page.map(Status::getReceiptCode).getContent();
+                List<Future<?>> tasks = new ArrayList<>();
+                for (User user : userRepository.findAllById(receiptCodes)) {
+                    tasks.add(workers.submit(() -> export(root, user)));
+                }
+                failed.addAndGet(receiptCodes.size() - tasks.size());
+
+                for (Future<?> task : tasks) {
+                    task.get();
+                }
+                pageable = page.nextPageable();
+            } while (page.hasNext());
+
+            writeArchive(root);
+            state = "COMPLETED";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state = "FAILED";
+        } catch (Exception e) {
+            log.error("PDF batch failed", e);
+            state = "FAILED";
+        } finally {
+            finishedAt = LocalDateTime.now();
+        }
+    }
+
+    private void export(Path root, User user) {
+        Path file = root.resolve(getGroup(user)).resolve(user.getReceiptCode() + ".pdf");
+        if (Files.exists(file)) {
+            skipped.incrementAndGet();
+            return;
+        }
+
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            temp = Files.createTempFile(file.getParent(), user.getReceiptCode() + "-", ".tmp");
+            writePDFApplication(user, temp);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            rendered.incrementAndGet();
+        } catch (Exception e) {
+            log.warn("Failed to export application of {}", user.getReceiptCode(), e);
+            failed.incrementAndGet();
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    // Live requests share the render executor, so back off instead of failing while it is busy.
+    private void writePDFApplication(User user, Path file) throws IOException, InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try (OutputStream outputStream = Files.newOutputStream(file)) {
+                pdfExportService.writePDFApplication(user, outputStream);
+                return;
+            } catch (PdfRenderOverloadedException e) {
+                if (attempt == 5)
+                    throw e;
+                Thread.sleep(1000L * attempt);
+            }
+        }
+    }
+
+    private void writeArchive(Path root) throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(root)) {
+            files = paths.filter(path -> path.toString().endsWith(".pdf"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        Path temp = Files.createTempFile(root, "applications-", ".tmp");
+        try {
+            try (ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(temp))) {
+                zipOutputStream.setLevel(Deflater.BEST_SPEED);
+                for (Path file : files) {
+                    zipOutputStream.putNextEntry(new ZipEntry(root.relativize(file).toString()));
+                    Files.copy(file, zipOutputStream);
+                    zipOutputStream.closeEntry();
+                }
+            }
+            Files.move(temp, root.resolve(ARCHIVE_NAME), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    private String getGroup(User user) {
+        String applyType = user.getApplyType() == null ? "UNKNOWN" : user.getApplyType().name();
+        String region = Boolean.TRUE.equals(user.getIsDaejeon()) ? "DAEJEON" : "NATIONWIDE";
+        return applyType + "_" + region;
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null)
+            return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}", path, e);
+        }
+    }
+
+    private PdfBatchStatusResponse createStatusResponse() {
+        return PdfBatchStatusResponse.builder()
+                .state(state)
+                .total(total.get())
+                .rendered(rendered.get())
+                .skipped(skipped.get())
+                .failed(failed.get())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .archiveReady(Files.exists(Paths.get(directory, ARCHIVE_NAME)))
+                .build();
+    }
+
+}
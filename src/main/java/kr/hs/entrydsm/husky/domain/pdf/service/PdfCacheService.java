@@ -0,0 +1,15 @@
+package kr.hs.entrydsm.husky.domain.pdf.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface PdfCacheService {
+
+    String generateKey(List<String> templates, LocalDateTime submittedAt);
+    boolean writeCached(Integer receiptCode, String key, OutputStream outputStream) throws IOException;
+    void writeAndCache(Integer receiptCode, String key, OutputStream outputStream, Consumer<OutputStream> renderer) throws IOException;
+
+}
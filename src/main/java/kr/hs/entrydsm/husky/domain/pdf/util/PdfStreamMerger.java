@@ -0,0 +1,45 @@
+package kr.hs.entrydsm.husky.domain.pdf.util;
+
+import com.itextpdf.io.source.RandomAccessSourceFactory;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.ReaderProperties;
+import com.itextpdf.kernel.utils.PdfMerger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+// Appends rendered documents to a single PdfWriter, flushing copied pages to the output as soon as they are merged.
+public class PdfStreamMerger implements Closeable {
+
+    private final RandomAccessSourceFactory sourceFactory = new RandomAccessSourceFactory();
+    private final PdfDocument mergedDocument;
+    private final PdfMerger merger;
+
+    public PdfStreamMerger(OutputStream outputStream) {
+        this.mergedDocument = new PdfDocument(new PdfWriter(outputStream));
+        this.merger = new PdfMerger(mergedDocument);
+    }
+
+    public void append(ByteArrayOutputStream rendered) {
+        try {
+            PdfReader reader = new PdfReader(sourceFactory.createSource(rendered.toByteArray()), new ReaderProperties());
+            PdfDocument document = new PdfDocument(reader);
+            merger.merge(document, 1, document.getNumberOfPages());
+            mergedDocument.flushCopiedObjects(document);
+            document.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        mergedDocument.close();
+    }
+
+}
@@ -0,0 +1,35 @@
+package kr.hs.entrydsm.husky.domain.process.domain;
+
+import kr.hs.entrydsm.husky.domain.process.value.ApplicationProcess;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+// Last evaluated progress of an applicant. Mutating services delete it; the TTL bounds anything a delete missed.
+@Getter
+@RedisHash(value = "process")
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessCache {
+
+    @Id
+    private Integer receiptCode;
+
+    private boolean type;
+    private boolean info;
+    private boolean score;
+    private boolean document;
+    private boolean completed;
+
+    @TimeToLive
+    private Long ttl;
+
+    public static ProcessCache of(Integer receiptCode, ApplicationProcess process, Long ttl) {
+        return new ProcessCache(receiptCode, process.isType(), process.isInfo(), process.isScore(),
+                process.isDocument(), process.isCompleted(), ttl);
+    }
+
+}
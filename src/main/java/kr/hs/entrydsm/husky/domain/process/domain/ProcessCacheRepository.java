@@ -0,0 +1,8 @@
+package kr.hs.entrydsm.husky.domain.process.domain;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProcessCacheRepository extends CrudRepository<ProcessCache, Integer> {
+}
@@ -1,5 +1,6 @@
 package kr.hs.entrydsm.husky.domain.process.dto;
 
+import kr.hs.entrydsm.husky.domain.process.domain.ProcessCache;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,5 +16,16 @@ public class ProcessResponse {
     private boolean info;
     private boolean score;
     private boolean document;
+    private boolean completed;
+
+    public static ProcessResponse response(ProcessCache process) {
+        return ProcessResponse.builder()
+                .type(process.isType())
+                .info(process.isInfo())
+                .score(process.isScore())
+                .document(process.isDocument())
+                .completed(process.isCompleted())
+                .build();
+    }
 
 }
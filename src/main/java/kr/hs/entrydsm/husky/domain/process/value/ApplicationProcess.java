@@ -0,0 +1,98 @@
+package kr.hs.entrydsm.husky.domain.process.value;
+
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.GEDApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.GeneralApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+import static kr.hs.entrydsm.husky.global.util.Validator.*;
+
+// Completion of each application step, evaluated in one pass over an already loaded snapshot,
+// so no step goes back to the database. The score step also requires the calculated score to be valid, so progress
+// and the final submit check agree on completion.
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ApplicationProcess {
+
+    private final boolean type;
+    private final boolean info;
+    private final boolean score;
+    private final boolean document;
+
+    // The score is calculated only once its rows are filled, since the calculation expects them.
+    public static ApplicationProcess evaluate(ApplicantSnapshot snapshot,
+                                              Function<ApplicantSnapshot, CalculatedScore> calculator) {
+        User user = snapshot.getUser();
+        boolean type = isTypeSelected(snapshot);
+
+        return new ApplicationProcess(
+                type,
+                type && isInfoFilled(snapshot),
+                type && isScoreFilled(snapshot) && isScoreValid(user, calculator.apply(snapshot)),
+                isExists(user.getSelfIntroduction()) && isExists(user.getStudyPlan())
+        );
+    }
+
+    public boolean isCompleted() {
+        return type && info && score && document;
+    }
+
+    private static boolean isTypeSelected(ApplicantSnapshot snapshot) {
+        User user = snapshot.getUser();
+        if (user.isGradeTypeEmpty() || user.getApplyType() == null || user.getAdditionalType() == null)
+            return false;
+
+        if (user.isGED()) {
+            GEDApplication application = snapshot.getGedApplication();
+            return application != null && application.getGedPassDate() != null;
+        }
+
+        GeneralApplication application = snapshot.getGeneralApplication();
+        if (application == null)
+            return false;
+
+        return !user.isGraduated() || application.getGraduatedDate() != null;
+    }
+
+    private static boolean isInfoFilled(ApplicantSnapshot snapshot) {
+        User user = snapshot.getUser();
+        if (user.isGED())
+            return user.isFilledInfo();
+
+        GeneralApplication application = snapshot.getGeneralApplication();
+        return application.isFilledStudentInfo() && user.isFilledInfo();
+    }
+
+    private static boolean isScoreFilled(ApplicantSnapshot snapshot) {
+        if (snapshot.getUser().isGED())
+            return snapshot.getGedApplication().getGedAverageScore() != null;
+
+        return snapshot.getGeneralApplication().isFilledScore();
+    }
+
+    private static boolean isScoreValid(User user, CalculatedScore score) {
+        if (user.isGED()) {
+            return isEqualTo(score.getAttendanceScore(), 15) &&
+                    isGreaterThanOrEqualTo(score.getVolunteerScore(), BigDecimal.valueOf(3)) &&
+                    isZero(score.getFirstGradeScore()) &&
+                    isZero(score.getSecondGradeScore()) &&
+                    isZero(score.getThirdGradeScore()) &&
+                    isPositive(score.getConversionScore());
+        }
+
+        return isGreaterThanOrEqualTo(score.getAttendanceScore(), 0) &&
+                isGreaterThanOrEqualTo(score.getVolunteerScore(), BigDecimal.valueOf(3)) &&
+                isPositive(score.getFirstGradeScore()) &&
+                isPositive(score.getSecondGradeScore()) &&
+                isPositive(score.getThirdGradeScore()) &&
+                isPositive(score.getConversionScore());
+    }
+
+}
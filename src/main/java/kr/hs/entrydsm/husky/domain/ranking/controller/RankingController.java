@@ -0,0 +1,50 @@
+package kr.hs.entrydsm.husky.domain.ranking.controller;
+
+import kr.hs.entrydsm.husky.domain.ranking.domain.AdmissionGroup;
+import kr.hs.entrydsm.husky.domain.ranking.domain.Region;
+import kr.hs.entrydsm.husky.domain.ranking.dto.ApplicantRankResponse;
+import kr.hs.entrydsm.husky.domain.ranking.dto.CutLineResponse;
+import kr.hs.entrydsm.husky.domain.ranking.dto.RankResponse;
+import kr.hs.entrydsm.husky.domain.ranking.service.RankingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/admin/rankings")
+public class RankingController {
+
+    private final RankingService rankingService;
+
+    @PostMapping("/rebuild")
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    public void rebuildRanking(@RequestHeader("secret") String secret) {
+        rankingService.rebuildRanking(secret);
+    }
+
+    @GetMapping("/{group}/{region}")
+    public List<RankResponse> getTopRanks(@RequestHeader("secret") String secret,
+                                          @PathVariable AdmissionGroup group,
+                                          @PathVariable Region region,
+                                          @RequestParam(defaultValue = "100") int size) {
+        return rankingService.getTopRanks(secret, group, region, size);
+    }
+
+    @GetMapping("/{group}/{region}/cut-line")
+    public CutLineResponse getCutLine(@RequestHeader("secret") String secret,
+                                      @PathVariable AdmissionGroup group,
+                                      @PathVariable Region region,
+                                      @RequestParam int seats) {
+        return rankingService.getCutLine(secret, group, region, seats);
+    }
+
+    @GetMapping("/applicants/{receiptCode}")
+    public ApplicantRankResponse getApplicantRank(@RequestHeader("secret") String secret,
+                                                  @PathVariable Integer receiptCode) {
+        return rankingService.getApplicantRank(secret, receiptCode);
+    }
+
+}
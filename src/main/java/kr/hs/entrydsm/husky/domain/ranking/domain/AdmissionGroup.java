@@ -0,0 +1,15 @@
+package kr.hs.entrydsm.husky.domain.ranking.domain;
+
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+
+public enum AdmissionGroup {
+    COMMON, MEISTER, SOCIAL;
+
+    public static AdmissionGroup of(User user) {
+        if (user.isCommonApplyType())
+            return COMMON;
+        if (user.isMeisterApplyType())
+            return MEISTER;
+        return SOCIAL;
+    }
+}
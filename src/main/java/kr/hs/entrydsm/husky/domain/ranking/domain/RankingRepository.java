@@ -0,0 +1,140 @@
+package kr.hs.entrydsm.husky.domain.ranking.domain;
+
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+
+// One sorted set of final scores per admission group and region, keyed by receipt code.
+@Repository
+@RequiredArgsConstructor
+public class RankingRepository {
+
+    private static final String KEY_PREFIX = "ranking:";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void save(CalculatedScore score) {
+        saveAll(List.of(score));
+    }
+
+    // An applicant can move between groups when they change apply type, so every other set is cleared too.
+    public void saveAll(Collection<CalculatedScore> scores) {
+        if (scores.isEmpty())
+            return;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (CalculatedScore score : scores) {
+                String member = String.valueOf(score.getReceiptCode());
+                String target = getKey(score.getUser());
+                for (String key : getAllKeys()) {
+                    if (key.equals(target))
+                        stringConnection.zAdd(key, score.getFinalScore().doubleValue(), member);
+                    else
+                        stringConnection.zRem(key, member);
+                }
+            }
+            return null;
+        });
+    }
+
+    // Each set is rebuilt under a temporary key and renamed over the live one, so readers never see it half-filled.
+    public void replaceAll(Collection<CalculatedScore> scores) {
+        Map<String, Set<TypedTuple<String>>> partitions = new HashMap<>();
+        for (CalculatedScore score : scores) {
+            String key = getKey(score.getUser());
+            if (key != null) {
+                partitions.computeIfAbsent(key, k -> new HashSet<>())
+                        .add(new DefaultTypedTuple<>(String.valueOf(score.getReceiptCode()), score.getFinalScore().doubleValue()));
+            }
+        }
+
+        for (String key : getAllKeys()) {
+            Set<TypedTuple<String>> partition = partitions.get(key);
+            if (partition == null) {
+                redisTemplate.delete(key);
+                continue;
+            }
+
+            String rebuildKey = key + REBUILD_SUFFIX;
+            redisTemplate.delete(rebuildKey);
+            redisTemplate.opsForZSet().add(rebuildKey, partition);
+            redisTemplate.rename(rebuildKey, key);
+        }
+    }
+
+    public List<TypedTuple<String>> findTop(AdmissionGroup group, Region region, int size) {
+        Set<TypedTuple<String>> top = redisTemplate.opsForZSet().reverseRangeWithScores(getKey(group, region), 0, size - 1);
+        return top == null ? List.of() : new ArrayList<>(top);
+    }
+
+    public Optional<TypedTuple<String>> findByRank(AdmissionGroup group, Region region, long rank) {
+        Set<TypedTuple<String>> entry = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(getKey(group, region), rank - 1, rank - 1);
+        return entry == null ? Optional.empty() : entry.stream().findFirst();
+    }
+
+    public Optional<BigDecimal> findScore(User user) {
+        String key = getKey(user);
+        if (key == null)
+            return Optional.empty();
+
+        return Optional.ofNullable(redisTemplate.opsForZSet().score(key, String.valueOf(user.getReceiptCode())))
+                .map(RankingRepository::toScore);
+    }
+
+    // Competition ranking: applicants with the same score share a rank.
+    public long getRank(AdmissionGroup group, Region region, BigDecimal score) {
+        return countAtLeast(group, region, Math.nextUp(score.doubleValue())) + 1;
+    }
+
+    public long countAtLeast(AdmissionGroup group, Region region, BigDecimal score) {
+        return countAtLeast(group, region, score.doubleValue());
+    }
+
+    public long count(AdmissionGroup group, Region region) {
+        Long count = redisTemplate.opsForZSet().zCard(getKey(group, region));
+        return count == null ? 0 : count;
+    }
+
+    public static BigDecimal toScore(Double score) {
+        return BigDecimal.valueOf(score).setScale(3, RoundingMode.HALF_UP);
+    }
+
+    private long countAtLeast(AdmissionGroup group, Region region, double min) {
+        Long count = redisTemplate.opsForZSet().count(getKey(group, region), min, Double.POSITIVE_INFINITY);
+        return count == null ? 0 : count;
+    }
+
+    private String getKey(User user) {
+        if (user == null || user.isApplyTypeEmpty())
+            return null;
+        return getKey(AdmissionGroup.of(user), Region.of(user));
+    }
+
+    private String getKey(AdmissionGroup group, Region region) {
+        return KEY_PREFIX + group + ":" + region;
+    }
+
+    private List<String> getAllKeys() {
+        List<String> keys = new ArrayList<>();
+        for (AdmissionGroup group : AdmissionGroup.values()) {
+            for (Region region : Region.values()) {
+                keys.add(getKey(group, region));
+            }
+        }
+        return keys;
+    }
+
+}
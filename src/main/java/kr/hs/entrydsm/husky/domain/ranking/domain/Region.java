@@ -0,0 +1,11 @@
+package kr.hs.entrydsm.husky.domain.ranking.domain;
+
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+
+public enum Region {
+    DAEJEON, NATIONWIDE;
+
+    public static Region of(User user) {
+        return Boolean.TRUE.equals(user.getIsDaejeon()) ? DAEJEON : NATIONWIDE;
+    }
+}
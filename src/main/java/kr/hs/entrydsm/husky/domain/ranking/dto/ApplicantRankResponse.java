@@ -0,0 +1,25 @@
+package kr.hs.entrydsm.husky.domain.ranking.dto;
+
+import kr.hs.entrydsm.husky.domain.ranking.domain.AdmissionGroup;
+import kr.hs.entrydsm.husky.domain.ranking.domain.Region;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicantRankResponse {
+
+    private Integer receiptCode;
+    private AdmissionGroup admissionGroup;
+    private Region region;
+    private BigDecimal finalScore;
+    private long rank;
+    private long total;
+
+}
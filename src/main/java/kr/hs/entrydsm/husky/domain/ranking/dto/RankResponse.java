@@ -0,0 +1,20 @@
+package kr.hs.entrydsm.husky.domain.ranking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankResponse {
+
+    private Integer receiptCode;
+    private BigDecimal finalScore;
+    private long rank;
+
+}
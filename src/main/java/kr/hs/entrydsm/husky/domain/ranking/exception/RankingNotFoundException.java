@@ -0,0 +1,8 @@
+package kr.hs.entrydsm.husky.domain.ranking.exception;
+
+import kr.hs.entrydsm.husky.global.error.exception.BusinessException;
+import kr.hs.entrydsm.husky.global.error.exception.ErrorCode;
+
+public class RankingNotFoundException extends BusinessException {
+    public RankingNotFoundException() { super(ErrorCode.RANKING_NOT_FOUND); }
+}
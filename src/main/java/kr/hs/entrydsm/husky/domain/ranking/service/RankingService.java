@@ -0,0 +1,23 @@
+package kr.hs.entrydsm.husky.domain.ranking.service;
+
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.ranking.domain.AdmissionGroup;
+import kr.hs.entrydsm.husky.domain.ranking.domain.Region;
+import kr.hs.entrydsm.husky.domain.ranking.dto.ApplicantRankResponse;
+import kr.hs.entrydsm.husky.domain.ranking.dto.CutLineResponse;
+import kr.hs.entrydsm.husky.domain.ranking.dto.RankResponse;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RankingService {
+
+    void updateRanking(Collection<CalculatedScore> scores);
+    void updateRanking(User user);
+    void rebuildRanking(String secret);
+    List<RankResponse> getTopRanks(String secret, AdmissionGroup group, Region region, int size);
+    ApplicantRankResponse getApplicantRank(String secret, Integer receiptCode);
+    CutLineResponse getCutLine(String secret, AdmissionGroup group, Region region, int seats);
+
+}
@@ -0,0 +1,130 @@
+package kr.hs.entrydsm.husky.domain.ranking.service;
+
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.CalculatedScoreRepository;
+import kr.hs.entrydsm.husky.domain.ranking.domain.AdmissionGroup;
+import kr.hs.entrydsm.husky.domain.ranking.domain.RankingRepository;
+import kr.hs.entrydsm.husky.domain.ranking.domain.Region;
+import kr.hs.entrydsm.husky.domain.ranking.dto.ApplicantRankResponse;
+import kr.hs.entrydsm.husky.domain.ranking.dto.CutLineResponse;
+import kr.hs.entrydsm.husky.domain.ranking.dto.RankResponse;
+import kr.hs.entrydsm.husky.domain.ranking.exception.RankingNotFoundException;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
+import kr.hs.entrydsm.husky.domain.user.exception.UserNotFoundException;
+import kr.hs.entrydsm.husky.global.config.security.AdminValidator;
+import kr.hs.entrydsm.husky.global.error.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static kr.hs.entrydsm.husky.domain.ranking.domain.RankingRepository.toScore;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisRankingServiceImpl implements RankingService {
+
+    private final RankingRepository rankingRepository;
+    private final CalculatedScoreRepository calculatedScoreRepository;
+    private final UserRepository userRepository;
+    private final AdminValidator adminValidator;
+
+    // The ranking is derived data that rebuildRanking can restore, so a Redis failure must not fail the score write.
+    @Override
+    public void updateRanking(Collection<CalculatedScore> scores) {
+        try {
+            rankingRepository.saveAll(scores);
+        } catch (DataAccessException e) {
+            log.warn("Failed to update ranking of {} scores", scores.size(), e);
+        }
+    }
+
+    // After an apply type or region change the score is the same, so the stored row is moved to the applicant's new set.
+    @Override
+    public void updateRanking(User user) {
+        calculatedScoreRepository.findById(user.getReceiptCode())
+                .ifPresent(score -> updateRanking(List.of(score)));
+    }
+
+    @Override
+    public void rebuildRanking(String secret) {
+        adminValidator.validate(secret);
+        rankingRepository.replaceAll(calculatedScoreRepository.findAllWithUser());
+    }
+
+    @Override
+    public List<RankResponse> getTopRanks(String secret, AdmissionGroup group, Region region, int size) {
+        adminValidator.validate(secret);
+        if (size <= 0)
+            throw new BadRequestException();
+
+        List<RankResponse> ranks = new ArrayList<>();
+        long rank = 0;
+        BigDecimal previousScore = null;
+        for (TypedTuple<String> entry : rankingRepository.findTop(group, region, size)) {
+            BigDecimal score = toScore(entry.getScore());
+            if (!score.equals(previousScore))
+                rank = ranks.size() + 1;
+
+            ranks.add(RankResponse.builder()
+                    .receiptCode(Integer.valueOf(entry.getValue()))
+                    .finalScore(score)
+                    .rank(rank)
+                    .build());
+            previousScore = score;
+        }
+        return ranks;
+    }
+
+    @Override
+    public ApplicantRankResponse getApplicantRank(String secret, Integer receiptCode) {
+        adminValidator.validate(secret);
+
+        User user = userRepository.findById(receiptCode)
+                .orElseThrow(UserNotFoundException::new);
+        BigDecimal score = rankingRepository.findScore(user)
+                .orElseThrow(RankingNotFoundException::new);
+
+        AdmissionGroup group = AdmissionGroup.of(user);
+        Region region = Region.of(user);
+        return ApplicantRankResponse.builder()
+                .receiptCode(receiptCode)
+                .admissionGroup(group)
+                .region(region)
+                .finalScore(score)
+                .rank(rankingRepository.getRank(group, region, score))
+                .total(rankingRepository.count(group, region))
+                .build();
+    }
+
+    // The cut line is the score of the last admitted seat; ties on it can push the admitted count above the seats.
+    @Override
+    public CutLineResponse getCutLine(String secret, AdmissionGroup group, Region region, int seats) {
+        adminValidator.validate(secret);
+        if (seats <= 0)
+            throw new BadRequestException();
+
+        BigDecimal score = rankingRepository.findByRank(group, region, seats)
+                .map(entry -> toScore(entry.getScore()))
+                .orElse(null);
+        long total = rankingRepository.count(group, region);
+
+        return CutLineResponse.builder()
+                .admissionGroup(group)
+                .region(region)
+                .seats(seats)
+                .finalScore(score)
+                .applicants(score == null ? total : rankingRepository.countAtLeast(group, region, score))
+                .total(total)
+                .build();
+    }
+
+}
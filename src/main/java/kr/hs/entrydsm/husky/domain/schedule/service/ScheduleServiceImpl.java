@@ -3,31 +3,20 @@ package kr.hs.entrydsm.husky.domain.schedule.service;
 import kr.hs.entrydsm.husky.domain.schedule.dao.ScheduleRepository;
 import kr.hs.entrydsm.husky.domain.schedule.domain.Schedule;
 import kr.hs.entrydsm.husky.domain.schedule.dto.CreateScheduleRequest;
-import kr.hs.entrydsm.husky.domain.schedule.exception.NotAdminException;
+import kr.hs.entrydsm.husky.global.config.security.AdminValidator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Base64;
-
 @RequiredArgsConstructor
 @Service
 public class ScheduleServiceImpl implements ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
-
-    @Value("${auth.maintenance.key}")
-    private String maintenanceKey;
+    private final AdminValidator adminValidator;
 
     @Override
     public String createSchedule(CreateScheduleRequest request, String secret) {
-        byte[] targetBytes = secret.getBytes();
-        Base64.Encoder encoder = Base64.getEncoder();
-        byte[] encodeBytes = encoder.encode(targetBytes);
-
-        if (!maintenanceKey.equals(new String(encodeBytes))) {
-            throw new NotAdminException();
-        }
+        adminValidator.validate(secret);
 
         Schedule schedule = scheduleRepository.save(
                 Schedule.builder()
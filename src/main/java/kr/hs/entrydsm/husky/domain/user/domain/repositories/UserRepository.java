@@ -1,6 +1,8 @@
 package kr.hs.entrydsm.husky.domain.user.domain.repositories;
 
 import kr.hs.entrydsm.husky.domain.user.domain.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +11,5 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends CrudRepository<User, Integer> {
     Optional<User> findByEmail(String email);
+    Slice<User> findAllByGradeTypeIsNotNull(Pageable pageable);
 }
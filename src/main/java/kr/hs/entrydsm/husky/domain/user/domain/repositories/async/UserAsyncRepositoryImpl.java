@@ -1,5 +1,6 @@
 package kr.hs.entrydsm.husky.domain.user.domain.repositories.async;
 
+import kr.hs.entrydsm.husky.domain.process.domain.ProcessCacheRepository;
 import kr.hs.entrydsm.husky.domain.user.domain.User;
 import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,11 +12,14 @@ import org.springframework.stereotype.Repository;
 public class UserAsyncRepositoryImpl implements UserAsyncRepository {
 
     private final UserRepository userRepository;
+    private final ProcessCacheRepository processCacheRepository;
 
+    // A progress poll that ran before this write may have cached the old state, so evict again once it lands.
     @Async
     @Override
     public void save(User user) {
         userRepository.save(user);
+        processCacheRepository.deleteById(user.getReceiptCode());
     }
 
 }
@@ -7,6 +7,7 @@ import kr.hs.entrydsm.husky.domain.application.domain.repositories.async.General
 import kr.hs.entrydsm.husky.domain.application.service.ApplicationServiceImpl;
 import kr.hs.entrydsm.husky.domain.image.service.ImageService;
 import kr.hs.entrydsm.husky.domain.image.service.ImageUrlService;
+import kr.hs.entrydsm.husky.domain.process.domain.ProcessCacheRepository;
 import kr.hs.entrydsm.husky.domain.school.domain.School;
 import kr.hs.entrydsm.husky.domain.school.domain.repositories.SchoolRepository;
 import kr.hs.entrydsm.husky.domain.user.domain.User;
@@ -36,6 +37,7 @@ public class UserInfoServiceImpl implements UserInfoService {
     private final GeneralApplicationRepository generalApplicationRepository;
     private final GeneralApplicationAsyncRepository generalApplicationAsyncRepository;
     private final SchoolRepository schoolRepository;
+    private final ProcessCacheRepository processCacheRepository;
 
     private final ImageService imageService;
     private final ImageUrlService imageUrlService;
@@ -55,6 +57,7 @@ public class UserInfoServiceImpl implements UserInfoService {
 
         user.updateInfo(request);
         userAsyncRepository.save(user);
+        processCacheRepository.deleteById(receiptCode);
 
         if (user.isGradeTypeEmpty() || user.isGED()) {
             return UserInfoResponse.builder()
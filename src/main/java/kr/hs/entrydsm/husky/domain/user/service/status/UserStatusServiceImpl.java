@@ -1,6 +1,8 @@
 package kr.hs.entrydsm.husky.domain.user.service.status;
 
 import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GeneralApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
 import kr.hs.entrydsm.husky.domain.grade.service.GradeCalcService;
 import kr.hs.entrydsm.husky.domain.process.service.ProcessService;
 import kr.hs.entrydsm.husky.domain.schedule.dao.ScheduleRepository;
@@ -33,6 +35,7 @@ public class UserStatusServiceImpl implements UserStatusService {
     private final UserRepository userRepository;
     private final StatusRepository statusRepository;
     private final ScheduleRepository scheduleRepository;
+    private final GeneralApplicationRepository generalApplicationRepository;
 
     private final ProcessService processService;
     private final GradeCalcService gradeCalcService;
@@ -58,9 +61,11 @@ public class UserStatusServiceImpl implements UserStatusService {
         Status status = statusRepository.findById(receiptCode)
                 .orElseGet(() -> statusRepository.save(new Status(receiptCode)));
 
-        CalculatedScore score = gradeCalcService.calcStudentGrade(user);
+        // One snapshot feeds both the grade calculation and the process check.
+        ApplicantSnapshot snapshot = generalApplicationRepository.findSnapshotByUser(user);
+        CalculatedScore score = gradeCalcService.calcStudentGrade(snapshot);
 
-        if (!processService.allCheck(user, score))
+        if (!processService.allCheck(snapshot, score))
             throw new ProcessNotCompletedException();
 
         status.finalSubmit();
@@ -10,6 +10,10 @@ import kr.hs.entrydsm.husky.domain.application.domain.repositories.GraduatedAppl
 import kr.hs.entrydsm.husky.domain.application.domain.repositories.UnGraduatedApplicationRepository;
 import kr.hs.entrydsm.husky.domain.application.domain.repositories.async.ApplicationAsyncRepository;
 import kr.hs.entrydsm.husky.domain.application.exception.ApplicationNotFoundException;
+import kr.hs.entrydsm.husky.domain.process.domain.ProcessCacheRepository;
+import kr.hs.entrydsm.husky.domain.ranking.domain.AdmissionGroup;
+import kr.hs.entrydsm.husky.domain.ranking.domain.Region;
+import kr.hs.entrydsm.husky.domain.ranking.service.RankingService;
 import kr.hs.entrydsm.husky.domain.user.domain.User;
 import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
 import kr.hs.entrydsm.husky.domain.user.domain.repositories.async.UserAsyncRepository;
@@ -35,6 +39,8 @@ public class UserTypeServiceImpl implements UserTypeService {
     private final ApplicationAsyncRepository applicationAsyncRepository;
     private final UnGraduatedApplicationRepository unGraduatedRepository;
     private final GeneralApplicationRepository generalApplicationRepository;
+    private final ProcessCacheRepository processCacheRepository;
+    private final RankingService rankingService;
 
     private final AuthenticationFacade authenticationFacade;
 
@@ -44,6 +50,10 @@ public class UserTypeServiceImpl implements UserTypeService {
         User user = userRepository.findById(authenticationFacade.getReceiptCode())
                 .orElseThrow(UserNotFoundException::new);
 
+        boolean applyTypeEmpty = user.isApplyTypeEmpty();
+        AdmissionGroup group = AdmissionGroup.of(user);
+        Region region = Region.of(user);
+
         user.updateClassification(dto);
         userAsyncRepository.save(user);
 
@@ -65,6 +75,11 @@ public class UserTypeServiceImpl implements UserTypeService {
                     .map(unGraduated -> unGraduated.update(dto))
                     .ifPresent(applicationAsyncRepository::save);
         }
+
+        processCacheRepository.deleteById(user.getReceiptCode());
+
+        if (user.isApplyTypeEmpty() != applyTypeEmpty || AdmissionGroup.of(user) != group || Region.of(user) != region)
+            rankingService.updateRanking(user);
     }
 
     @Override
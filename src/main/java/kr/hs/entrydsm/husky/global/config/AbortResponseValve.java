@@ -0,0 +1,33 @@
+package kr.hs.entrydsm.husky.global.config;
+
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.apache.coyote.ActionCode;
+
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+// Closes the connection without ending the response when a handler failed after the response was committed.
+// Otherwise Tomcat terminates the body normally and the client takes the partial content as a complete 200.
+public class AbortResponseValve extends ValveBase {
+
+    public static final String ABORT_ATTRIBUTE = AbortResponseValve.class.getName() + ".ABORT";
+
+    public AbortResponseValve() {
+        super(true);
+    }
+
+    public static void abort(HttpServletRequest request) {
+        request.setAttribute(ABORT_ATTRIBUTE, Boolean.TRUE);
+    }
+
+    @Override
+    public void invoke(Request request, Response response) throws IOException, ServletException {
+        getNext().invoke(request, response);
+        if (request.getAttribute(ABORT_ATTRIBUTE) != null)
+            response.getCoyoteResponse().action(ActionCode.CLOSE_NOW, null);
+    }
+
+}
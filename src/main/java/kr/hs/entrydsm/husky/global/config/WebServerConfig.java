@@ -0,0 +1,16 @@
+package kr.hs.entrydsm.husky.global.config;
+
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class WebServerConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> abortResponseCustomizer() {
+        return factory -> factory.addContextValves(new AbortResponseValve());
+    }
+
+}
@@ -0,0 +1,32 @@
+package kr.hs.entrydsm.husky.global.config.security;
+
+import kr.hs.entrydsm.husky.domain.schedule.exception.NotAdminException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+// The only guard on /admin/**, which SecurityConfig permits without a token.
+@Component
+public class AdminValidator {
+
+    private final byte[] maintenanceKey;
+
+    public AdminValidator(@Value("${auth.maintenance.key}") String maintenanceKey) {
+        this.maintenanceKey = maintenanceKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void validate(String secret) {
+        if (secret == null)
+            throw new NotAdminException();
+
+        byte[] encodeBytes = Base64.getEncoder().encode(secret.getBytes(StandardCharsets.UTF_8));
+
+        if (!MessageDigest.isEqual(maintenanceKey, encodeBytes)) {
+            throw new NotAdminException();
+        }
+    }
+
+}
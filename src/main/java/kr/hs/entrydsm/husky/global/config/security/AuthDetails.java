@@ -1,6 +1,5 @@
 package kr.hs.entrydsm.husky.global.config.security;
 
-import kr.hs.entrydsm.husky.domain.user.domain.User;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
@@ -9,11 +8,12 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.ArrayList;
 import java.util.Collection;
 
+// Built from the token claims alone; services that need the applicant load it themselves by receipt code.
 @Getter
 @AllArgsConstructor
 public class AuthDetails implements UserDetails {
 
-    private final User user;
+    private final Integer receiptCode;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -22,12 +22,12 @@ public class AuthDetails implements UserDetails {
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return null;
     }
 
     @Override
     public String getUsername() {
-        return user.getReceiptCode().toString();
+        return receiptCode.toString();
     }
 
     @Override
@@ -14,7 +14,7 @@ public class AuthenticationFacade {
     public Integer getReceiptCode() {
         Authentication auth = this.getAuthentication();
         if (auth.getPrincipal() instanceof AuthDetails) {
-            return ((AuthDetails) auth.getPrincipal()).getUser().getReceiptCode();
+            return ((AuthDetails) auth.getPrincipal()).getReceiptCode();
         } else {
             return Integer.parseInt(this.getAuthentication().getName());
         }
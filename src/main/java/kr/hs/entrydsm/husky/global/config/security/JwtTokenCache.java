@@ -0,0 +1,62 @@
+package kr.hs.entrydsm.husky.global.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Verified tokens by their exact text, each kept until its own exp. Only tokens that passed verification are stored,
+// so a hit can skip the signature check; the key is the whole token, so nothing but that token can match it.
+@Component
+public class JwtTokenCache {
+
+    private final Cache<String, ParsedToken> cache;
+
+    public JwtTokenCache(MeterRegistry meterRegistry,
+                         @Value("${auth.jwt.cache.maximum-size}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilExpiration())
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.cache");
+    }
+
+    public ParsedToken get(String token, Function<String, ParsedToken> verifier) {
+        return cache.get(token, verifier);
+    }
+
+    private static class UntilExpiration implements Expiry<String, ParsedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, ParsedToken parsedToken, long currentTime) {
+            Date expiration = parsedToken.getExpiration();
+            if (expiration == null)
+                return 0;
+
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, ParsedToken parsedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, ParsedToken parsedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
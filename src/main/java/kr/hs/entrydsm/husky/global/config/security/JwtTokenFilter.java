@@ -20,8 +20,8 @@ public class JwtTokenFilter extends GenericFilterBean {
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws ServletException, IOException {
         String token = jwtTokenProvider.resolveToken((HttpServletRequest) request);
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication auth = jwtTokenProvider.getAuthentication(token);
+        if (token != null) {
+            Authentication auth = jwtTokenProvider.getAuthentication(jwtTokenProvider.parse(token));
             SecurityContextHolder.getContext().setAuthentication(auth);
         }
         chain.doFilter(request, response);
@@ -1,36 +1,47 @@
 package kr.hs.entrydsm.husky.global.config.security;
 
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.impl.TextCodec;
 import kr.hs.entrydsm.husky.domain.auth.exceptions.InvalidTokenException;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.spec.SecretKeySpec;
 import javax.servlet.http.HttpServletRequest;
+import java.security.Key;
 import java.util.Date;
 
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    @Value("${auth.jwt.secret}")
-    private String secretKey;
-
-    @Value("${auth.jwt.exp.access}")
-    private Long accessTokenExpiration;
-
-    @Value("${auth.jwt.exp.refresh}")
-    private Long refreshTokenExpiration;
-
-    @Value("${auth.jwt.header}")
-    private String header;
-
-    @Value("${auth.jwt.prefix}")
-    private String prefix;
-
-    private final AuthDetailsService authDetailsService;
+    private static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.HS256;
+
+    private final Long accessTokenExpiration;
+    private final Long refreshTokenExpiration;
+    private final String header;
+    private final String prefix;
+
+    // The key is decoded once and the parser reused; a configured parser only reads its settings while parsing.
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final JwtTokenCache tokenCache;
+
+    public JwtTokenProvider(JwtTokenCache tokenCache,
+                            @Value("${auth.jwt.secret}") String secretKey,
+                            @Value("${auth.jwt.exp.access}") Long accessTokenExpiration,
+                            @Value("${auth.jwt.exp.refresh}") Long refreshTokenExpiration,
+                            @Value("${auth.jwt.header}") String header,
+                            @Value("${auth.jwt.prefix}") String prefix) {
+        this.tokenCache = tokenCache;
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.header = header;
+        this.prefix = prefix;
+        this.signingKey = new SecretKeySpec(TextCodec.BASE64.decode(secretKey), SIGNATURE_ALGORITHM.getJcaName());
+        this.parser = Jwts.parser().setSigningKey(signingKey);
+    }
 
     public String generateAccessToken(Integer receiptCode) {
         return Jwts.builder()
@@ -38,7 +49,7 @@ public class JwtTokenProvider {
                 .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpiration * 1000))
                 .setSubject(receiptCode.toString())
                 .claim("type", "access_token")
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(SIGNATURE_ALGORITHM, signingKey)
                 .compact();
     }
 
@@ -48,7 +59,7 @@ public class JwtTokenProvider {
                 .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpiration * 1000))
                 .setSubject(receiptCode.toString())
                 .claim("type", "refresh_token")
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(SIGNATURE_ALGORITHM, signingKey)
                 .compact();
     }
 
@@ -60,37 +71,21 @@ public class JwtTokenProvider {
         return null;
     }
 
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser().setSigningKey(secretKey)
-                    .parseClaimsJws(token).getBody().getSubject();
-            return true;
-        } catch (Exception e) {
-            throw new InvalidTokenException();
-        }
-    }
-
-    public Authentication getAuthentication(String token) {
-        AuthDetails authDetails = authDetailsService.loadUserByUsername(getReceiptCode(token));
-        return new UsernamePasswordAuthenticationToken(authDetails, "", authDetails.getAuthorities());
+    public ParsedToken parse(String token) {
+        return tokenCache.get(token, this::verify);
     }
 
-    public String getReceiptCode(String token) {
+    private ParsedToken verify(String token) {
         try {
-            return Jwts.parser().setSigningKey(secretKey)
-                    .parseClaimsJws(token).getBody().getSubject();
+            return new ParsedToken(parser.parseClaimsJws(token).getBody());
         } catch (Exception e) {
             throw new InvalidTokenException();
         }
     }
 
-    public boolean isRefreshToken(String token) {
-        try {
-            return Jwts.parser().setSigningKey(secretKey)
-                    .parseClaimsJws(token).getBody().get("type").equals("refresh_token");
-        } catch (Exception e) {
-            throw new InvalidTokenException();
-        }
+    public Authentication getAuthentication(ParsedToken token) {
+        AuthDetails authDetails = new AuthDetails(token.getReceiptCode());
+        return new UsernamePasswordAuthenticationToken(authDetails, "", authDetails.getAuthorities());
     }
 
 }
@@ -0,0 +1,33 @@
+package kr.hs.entrydsm.husky.global.config.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+// A token whose signature and expiry have already been checked, so callers read claims without parsing again.
+public class ParsedToken {
+
+    private static final String TYPE = "type";
+    private static final String REFRESH_TOKEN = "refresh_token";
+
+    private final Claims claims;
+    private final Integer receiptCode;
+
+    ParsedToken(Claims claims) {
+        this.claims = claims;
+        this.receiptCode = Integer.valueOf(claims.getSubject());
+    }
+
+    public Integer getReceiptCode() {
+        return receiptCode;
+    }
+
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH_TOKEN.equals(claims.get(TYPE));
+    }
+
+}
@@ -0,0 +1,25 @@
+package kr.hs.entrydsm.husky.global.config.security;
+
+import kr.hs.entrydsm.husky.global.ratelimit.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.DefaultSecurityFilterChain;
+
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class RateLimitConfigurer extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
+
+    private final RateLimiter rateLimiter;
+    private final int limit;
+    private final long windowSeconds;
+    private final Set<String> trustedProxies;
+
+    @Override
+    public void configure(HttpSecurity http) {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, limit, windowSeconds, trustedProxies);
+        http.addFilterAfter(filter, ExceptionHandlerFilter.class);
+    }
+
+}
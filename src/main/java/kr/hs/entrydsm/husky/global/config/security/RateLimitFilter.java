@@ -0,0 +1,69 @@
+package kr.hs.entrydsm.husky.global.config.security;
+
+import kr.hs.entrydsm.husky.global.error.exception.TooManyRequestException;
+import kr.hs.entrydsm.husky.global.ratelimit.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Per-IP limit on sign-in and the endpoints that send mail, counted separately for each endpoint.
+// Token refresh and code checks use other methods on the same paths and are not limited.
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // "/**" also matches the trailing-slash form that Spring MVC routes to the same handler.
+    private static final Map<String, RequestMatcher> LIMITED_ENDPOINTS = Map.of(
+            "POST /auth", new AntPathRequestMatcher("/auth/**", HttpMethod.POST.name()),
+            "POST /users/email/verify", new AntPathRequestMatcher("/users/email/verify/**", HttpMethod.POST.name()),
+            "POST /users/email/password/verify", new AntPathRequestMatcher("/users/email/password/verify/**", HttpMethod.POST.name()));
+
+    private final RateLimiter rateLimiter;
+    private final int limit;
+    private final long windowSeconds;
+    private final Set<String> trustedProxies;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return findEndpoint(request).isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String endpoint = findEndpoint(request).orElseThrow();
+
+        if (!rateLimiter.tryAcquire("ip:" + endpoint + ":" + getClientIp(request), limit, windowSeconds))
+            throw new TooManyRequestException();
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Optional<String> findEndpoint(HttpServletRequest request) {
+        return LIMITED_ENDPOINTS.entrySet().stream()
+                .filter(endpoint -> endpoint.getValue().matches(request))
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
+    // x-real-ip is client-controlled unless the request came through one of our own proxies.
+    private String getClientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String realIp = request.getHeader("x-real-ip");
+
+        if (realIp != null && trustedProxies.contains(remoteAddr))
+            return realIp;
+        return remoteAddr;
+    }
+
+}
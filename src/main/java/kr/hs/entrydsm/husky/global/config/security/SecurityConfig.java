@@ -1,10 +1,11 @@
 package kr.hs.entrydsm.husky.global.config.security;
 
+import kr.hs.entrydsm.husky.global.ratelimit.RateLimiter;
 import kr.hs.entrydsm.husky.global.slack.SlackSenderManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
@@ -12,6 +13,8 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Set;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -19,12 +22,16 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final SlackSenderManager slackSenderManager;
+    private final RateLimiter rateLimiter;
 
-    @Bean
-    @Override
-    public AuthenticationManager authenticationManagerBean() throws Exception {
-        return super.authenticationManagerBean();
-    }
+    @Value("${rate-limit.per-ip}")
+    private int ipLimit;
+
+    @Value("${rate-limit.window-seconds}")
+    private long windowSeconds;
+
+    @Value("${rate-limit.trusted-proxies}")
+    private Set<String> trustedProxies;
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
@@ -42,11 +49,13 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                     .antMatchers("/users/password").permitAll()
                     .antMatchers("/users/email/verify").permitAll()
                     .antMatchers("/users/email/password/verify").permitAll()
-                    .antMatchers("/actuator/health").permitAll()
+                    .antMatchers("/actuator/health", "/actuator/health/**").permitAll()
                     .antMatchers("/schedules").permitAll()
+                    .antMatchers("/admin/**").permitAll()
                     .anyRequest().authenticated().and()
                 .apply(new JwtConfigurer(jwtTokenProvider)).and()
                 .apply(new ExceptionConfigurer(slackSenderManager)).and()
+                .apply(new RateLimitConfigurer(rateLimiter, ipLimit, windowSeconds, trustedProxies)).and()
                 .apply(new RequestLogConfigurer()).and()
                 .apply(new CorsConfigurer());
     }
@@ -36,8 +36,12 @@ public enum ErrorCode {
     SCHOOL_NOT_FOUND(404, "S404-0", "School Not Found."),
 
     //Grade
+    PDF_BATCH_ARCHIVE_NOT_FOUND(404, "G404-0", "Batch Archive Not Found."),
+    RANKING_NOT_FOUND(404, "G404-1", "Ranking Not Found."),
     FINAL_SUBMIT_REQUIRED(406, "G406-0", "Final Submit Required."),
-    UNPROCESSABLE_APPLICATION(422, "G422-0", "Cannot Generate Application");
+    GRADE_RECALC_IN_PROGRESS(409, "G409-0", "Grade Recalculation Is Already Running."),
+    UNPROCESSABLE_APPLICATION(422, "G422-0", "Cannot Generate Application"),
+    PDF_RENDER_OVERLOADED(503, "G503-0", "Too Many Applications Are Being Generated");
 
     private final int status;
     private final String code;
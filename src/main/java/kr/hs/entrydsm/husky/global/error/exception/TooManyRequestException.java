@@ -0,0 +1,7 @@
+package kr.hs.entrydsm.husky.global.error.exception;
+
+public class TooManyRequestException extends BusinessException {
+    public TooManyRequestException() {
+        super(ErrorCode.TOO_MANY_REQUEST);
+    }
+}
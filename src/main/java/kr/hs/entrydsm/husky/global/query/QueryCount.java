@@ -0,0 +1,43 @@
+package kr.hs.entrydsm.husky.global.query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Statements issued within one scope, kept per SQL string so that repeats (the usual N+1 shape) can be reported.
+public class QueryCount {
+
+    private final QueryCount parent;
+    private final Map<String, Integer> statements = new LinkedHashMap<>();
+    private int count;
+
+    QueryCount(QueryCount parent) {
+        this.parent = parent;
+    }
+
+    void record(String sql) {
+        for (QueryCount scope = this; scope != null; scope = scope.parent) {
+            scope.count++;
+            scope.statements.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    QueryCount getParent() {
+        return parent;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public Map<String, Integer> getStatements() {
+        return Map.copyOf(statements);
+    }
+
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        return statements.entrySet().stream()
+                .filter(statement -> statement.getValue() >= threshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+}
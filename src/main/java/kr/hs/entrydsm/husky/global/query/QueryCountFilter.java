@@ -0,0 +1,62 @@
+package kr.hs.entrydsm.husky.global.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTags;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "http.server.requests.queries";
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+    private final int repeatThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCount queryCount = QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter.stop(queryCount);
+            record(request, response, queryCount);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, QueryCount queryCount) {
+        // The uri tag is the matched handler pattern, so /users/{id} is one series rather than one per id.
+        Tags tags = Tags.of(WebMvcTags.method(request), WebMvcTags.uri(request, response));
+        DistributionSummary.builder(METRIC_NAME)
+                .description("Number of SQL statements issued while handling a request")
+                .baseUnit("statements")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(queryCount.getCount());
+
+        Map<String, Integer> repeated = queryCount.getRepeatedStatements(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            log.warn("{} {} issued {} queries; repeated statements: {}",
+                    request.getMethod(), request.getRequestURI(), queryCount.getCount(), repeated);
+        } else if (queryCount.getCount() > warnThreshold) {
+            log.warn("{} {} issued {} queries", request.getMethod(), request.getRequestURI(), queryCount.getCount());
+        } else {
+            log.debug("{} {} issued {} queries", request.getMethod(), request.getRequestURI(), queryCount.getCount());
+        }
+    }
+
+}
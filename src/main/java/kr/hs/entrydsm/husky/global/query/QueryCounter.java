@@ -0,0 +1,33 @@
+package kr.hs.entrydsm.husky.global.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Registered as Hibernate's statement inspector; counts every statement Hibernate prepares on the current thread.
+// Scopes nest, so a test can measure one call inside a request that is itself being counted.
+// Statements sent through JdbcTemplate bypass Hibernate and are not counted.
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+    public static QueryCount start() {
+        QueryCount count = new QueryCount(CURRENT.get());
+        CURRENT.set(count);
+        return count;
+    }
+
+    public static void stop(QueryCount count) {
+        if (count.getParent() == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(count.getParent());
+    }
+
+    @Override
+    public String inspect(String sql) {
+        QueryCount count = CURRENT.get();
+        if (count != null)
+            count.record(sql);
+        return sql;
+    }
+
+}
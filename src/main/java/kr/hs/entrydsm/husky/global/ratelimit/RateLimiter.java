@@ -0,0 +1,32 @@
+package kr.hs.entrydsm.husky.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Fixed-window counters in Redis. The increment and the expiry of a new window run in one script,
+// so concurrent callers never lose a count and a window can never be left without a TTL.
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    // KEYS: counter / ARGV: window seconds
+    private static final RedisScript<Long> INCREMENT = new DefaultRedisScript<>(
+            "local count = redis.call('INCR', KEYS[1]) " +
+            "if count == 1 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+            "return count", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean tryAcquire(String key, int limit, long windowSeconds) {
+        Long count = redisTemplate.execute(INCREMENT, List.of(KEY_PREFIX + key), Long.toString(windowSeconds));
+        return count != null && count <= limit;
+    }
+
+}
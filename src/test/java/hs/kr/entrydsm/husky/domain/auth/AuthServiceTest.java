@@ -0,0 +1,73 @@
+package hs.kr.entrydsm.husky.domain.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.domain.auth.domain.refreshtoken.RefreshTokenRepository;
+import kr.hs.entrydsm.husky.domain.auth.dto.request.SignInRequest;
+import kr.hs.entrydsm.husky.domain.auth.dto.response.TokenResponse;
+import kr.hs.entrydsm.husky.domain.auth.service.auth.AuthServiceImpl;
+import kr.hs.entrydsm.husky.domain.auth.service.refreshtoken.RefreshTokenService;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
+import kr.hs.entrydsm.husky.global.config.security.JwtTokenCache;
+import kr.hs.entrydsm.husky.global.config.security.JwtTokenProvider;
+import kr.hs.entrydsm.husky.global.error.exception.UserNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class AuthServiceTest {
+
+    private static final String EMAIL = "applicant@dsm.hs.kr";
+    private static final String PASSWORD = "P@ssw0rd!";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+            new JwtTokenCache(new SimpleMeterRegistry(), 100), "dGVzdA==", 3600L, 3600L, "Authorization", "Bearer");
+
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    public void setUp() {
+        authService = new AuthServiceImpl(userRepository, mock(RefreshTokenRepository.class), refreshTokenService,
+                jwtTokenProvider, passwordEncoder);
+        ReflectionTestUtils.setField(authService, "refreshExp", 3600L);
+        ReflectionTestUtils.setField(authService, "tokenType", "Bearer");
+
+        given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(User.builder()
+                .receiptCode(100001)
+                .email(EMAIL)
+                .password(passwordEncoder.encode(PASSWORD))
+                .build()));
+    }
+
+    @Test
+    public void signInIssuesTokensForTheApplicant() {
+        TokenResponse response = authService.signIn(new SignInRequest(EMAIL, PASSWORD));
+
+        assertEquals(100001, jwtTokenProvider.parse(response.getAccessToken()).getReceiptCode());
+        verify(refreshTokenService).save(eq(100001), eq(response.getRefreshToken()), eq(3600L));
+    }
+
+    @Test
+    public void wrongPasswordIsRejected() {
+        assertThrows(UserNotFoundException.class, () ->
+                authService.signIn(new SignInRequest(EMAIL, "Wr0ngP@ssword")));
+        verify(refreshTokenService, never()).save(anyInt(), anyString(), anyLong());
+    }
+
+}
@@ -0,0 +1,60 @@
+package hs.kr.entrydsm.husky.domain.auth;
+
+import hs.kr.entrydsm.husky.global.redis.EmbeddedRedisExtension;
+import kr.hs.entrydsm.husky.domain.auth.domain.refreshtoken.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(EmbeddedRedisExtension.class)
+class RefreshTokenRepositoryTest {
+
+    private static final long TTL = 3600;
+
+    private StringRedisTemplate redisTemplate;
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    public void setUp() {
+        redisTemplate = EmbeddedRedisExtension.createTemplate();
+        refreshTokenRepository = new RefreshTokenRepository(redisTemplate);
+    }
+
+    @Test
+    public void rotatedTokenCannotBeUsedAgain() {
+        refreshTokenRepository.save(1, "first", TTL);
+
+        assertTrue(refreshTokenRepository.rotate(1, "first", "second", TTL));
+        assertFalse(refreshTokenRepository.rotate(1, "first", "third", TTL));
+        assertTrue(refreshTokenRepository.rotate(1, "second", "third", TTL));
+    }
+
+    @Test
+    public void signingInAgainRevokesPreviousToken() {
+        refreshTokenRepository.save(1, "first", TTL);
+        refreshTokenRepository.save(1, "second", TTL);
+
+        assertFalse(refreshTokenRepository.rotate(1, "first", "third", TTL));
+        assertTrue(refreshTokenRepository.rotate(1, "second", "third", TTL));
+    }
+
+    @Test
+    public void tokenOfAnotherApplicantIsRejected() {
+        refreshTokenRepository.save(1, "first", TTL);
+
+        assertFalse(refreshTokenRepository.rotate(2, "first", "second", TTL));
+    }
+
+    @Test
+    public void keysExpireWithTheToken() {
+        refreshTokenRepository.save(1, "first", TTL);
+
+        assertTrue(redisTemplate.keys("refresh_token:*").stream()
+                .allMatch(key -> redisTemplate.getExpire(key) > 0));
+    }
+
+}
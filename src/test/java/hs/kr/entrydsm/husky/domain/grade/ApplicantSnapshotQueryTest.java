@@ -0,0 +1,123 @@
+package hs.kr.entrydsm.husky.domain.grade;
+
+import kr.hs.entrydsm.husky.HuskyApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.GraduatedApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.CalculatedScoreJdbcRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GeneralApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GeneralApplicationRepositoryImpl;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GraduatedApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeCalcService;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeCalcServiceImpl;
+import kr.hs.entrydsm.husky.domain.ranking.service.RankingService;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.AdditionalType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.ApplyType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.GradeType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.Sex;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ContextConfiguration(classes = HuskyApplication.class)
+@Import({GeneralApplicationRepositoryImpl.class, GradeCalcServiceImpl.class, CalculatedScoreJdbcRepository.class})
+class ApplicantSnapshotQueryTest {
+
+    @Autowired
+    private GradeCalcService gradeCalcService;
+
+    @MockBean
+    private RankingService rankingService;
+
+    @Autowired
+    private GeneralApplicationRepository generalApplicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GraduatedApplicationRepository graduatedApplicationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void snapshotIsLoadedWithOneQuery() {
+        User user = saveApplicant();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ApplicantSnapshot snapshot = generalApplicationRepository.findSnapshotByUser(user);
+        CalculatedScore calculatedScore = gradeCalcService.calculate(snapshot);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(BigDecimal.valueOf(162.249), calculatedScore.getFinalScore().stripTrailingZeros());
+    }
+
+    @Test
+    public void unchangedScoreIsNotWrittenAgain() {
+        User user = saveApplicant();
+        gradeCalcService.calcStudentGrade(generalApplicationRepository.findSnapshotByUser(user));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        ApplicantSnapshot snapshot = generalApplicationRepository.findSnapshotByUser(user);
+        statistics.clear();
+
+        CalculatedScore calculatedScore = gradeCalcService.calcStudentGrade(snapshot);
+        entityManager.flush();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(BigDecimal.valueOf(162.249), calculatedScore.getFinalScore().stripTrailingZeros());
+    }
+
+    private User saveApplicant() {
+        User user = userRepository.save(User.builder()
+                .email("email")
+                .password("password")
+                .applyType(ApplyType.COMMON)
+                .gradeType(GradeType.GRADUATED)
+                .additionalType(AdditionalType.NOT_APPLICABLE)
+                .isDaejeon(true)
+                .name("name")
+                .sex(Sex.MALE)
+                .build());
+        graduatedApplicationRepository.save(GraduatedApplication.graduatedApplicationBuilder()
+                .receiptCode(user.getReceiptCode())
+                .volunteerTime(39)
+                .fullCutCount(0)
+                .periodCutCount(0)
+                .lateCount(1)
+                .earlyLeaveCount(0)
+                .korean("ABBAAA")
+                .social("AAXAAB")
+                .history("AAAAAC")
+                .math("XABCAD")
+                .science("AABBAE")
+                .techAndHome("BABAAA")
+                .english("AAAAAB")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        return user;
+    }
+
+}
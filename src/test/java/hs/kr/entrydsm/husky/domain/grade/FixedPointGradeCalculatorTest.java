@@ -0,0 +1,142 @@
+package hs.kr.entrydsm.husky.domain.grade;
+
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.GEDApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.GraduatedApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeCalcServiceImpl;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.ApplyType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.GradeType;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The fixed-point engine must produce exactly the BigDecimal engine's scores, scale included.
+class FixedPointGradeCalculatorTest {
+
+    private static final char[] GRADES = {'A', 'B', 'C', 'D', 'E', 'X'};
+    private static final ApplyType[] APPLY_TYPES = {ApplyType.COMMON, ApplyType.MEISTER, null};
+    private static final GradeType[] GENERAL_GRADE_TYPES = {GradeType.GRADUATED, GradeType.UNGRADUATED};
+
+    private final GradeCalcServiceImpl decimalEngine = new GradeCalcServiceImpl(null, null, null, null);
+    private final GradeCalcServiceImpl fixedPointEngine = new GradeCalcServiceImpl(null, null, null, null);
+
+    private final Random random = new Random(20201018);
+
+    FixedPointGradeCalculatorTest() {
+        ReflectionTestUtils.setField(fixedPointEngine, "fixedPointEnabled", true);
+    }
+
+    @Test
+    public void everyGradeStringOfOneSubject() {
+        char[] grades = new char[6];
+        for (int code = 0; code < 46656; code++) {
+            for (int semester = 0, rest = code; semester < 6; semester++, rest /= 6) {
+                grades[semester] = GRADES[rest % 6];
+            }
+
+            for (GradeType gradeType : GENERAL_GRADE_TYPES) {
+                for (ApplyType applyType : APPLY_TYPES) {
+                    User user = createUser(gradeType, applyType);
+                    assertSameScore(ApplicantSnapshot.ofGeneral(user, createApplication(new String(grades))));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void randomApplications() {
+        for (int i = 0; i < 200_000; i++) {
+            User user = createUser(GENERAL_GRADE_TYPES[random.nextInt(2)], APPLY_TYPES[random.nextInt(3)]);
+            assertSameScore(ApplicantSnapshot.ofGeneral(user, createApplication(randomGrades())));
+        }
+    }
+
+    @Test
+    public void everyGEDAverage() {
+        for (int hundredths = 0; hundredths <= 10_000; hundredths++) {
+            for (ApplyType applyType : APPLY_TYPES) {
+                GEDApplication gedApplication = GEDApplication.gedApplicationBuilder()
+                        .receiptCode(1)
+                        .gedAverageScore(BigDecimal.valueOf(hundredths, 2))
+                        .build();
+                assertSameScore(ApplicantSnapshot.ofGED(createUser(GradeType.GED, applyType), gedApplication));
+            }
+        }
+    }
+
+    @Test
+    public void missingApplications() {
+        for (ApplyType applyType : APPLY_TYPES) {
+            assertSameScore(ApplicantSnapshot.ofGED(createUser(GradeType.GED, applyType), null));
+            for (GradeType gradeType : GENERAL_GRADE_TYPES) {
+                assertSameScore(ApplicantSnapshot.ofGeneral(createUser(gradeType, applyType), null));
+            }
+        }
+    }
+
+    private void assertSameScore(ApplicantSnapshot snapshot) {
+        CalculatedScore expected = decimalEngine.calculate(snapshot);
+        CalculatedScore actual = fixedPointEngine.calculate(snapshot);
+
+        String message = snapshot.getUser().getGradeType() + " " + snapshot.getUser().getApplyType();
+        assertEquals(expected.getAttendanceScore(), actual.getAttendanceScore(), message);
+        assertEquals(expected.getVolunteerScore(), actual.getVolunteerScore(), message);
+        assertEquals(expected.getFirstGradeScore(), actual.getFirstGradeScore(), message);
+        assertEquals(expected.getSecondGradeScore(), actual.getSecondGradeScore(), message);
+        assertEquals(expected.getThirdGradeScore(), actual.getThirdGradeScore(), message);
+        assertEquals(expected.getConversionScore(), actual.getConversionScore(), message);
+        assertEquals(expected.getFinalScore(), actual.getFinalScore(), message);
+    }
+
+    // The first subject is given; the others are random, with whole semesters left blank often enough
+    // to reach every branch that fills in a missing semester or grade.
+    private GraduatedApplication createApplication(String korean) {
+        boolean[] blankSemesters = new boolean[6];
+        for (int semester = 0; semester < 6; semester++) {
+            blankSemesters[semester] = random.nextInt(3) == 0;
+        }
+
+        return GraduatedApplication.graduatedApplicationBuilder()
+                .receiptCode(1)
+                .volunteerTime(random.nextInt(61))
+                .fullCutCount(random.nextInt(4))
+                .periodCutCount(random.nextInt(4))
+                .lateCount(random.nextInt(8))
+                .earlyLeaveCount(random.nextInt(4))
+                .korean(korean)
+                .social(randomGrades(blankSemesters))
+                .history(randomGrades(blankSemesters))
+                .math(randomGrades(blankSemesters))
+                .science(randomGrades(blankSemesters))
+                .techAndHome(randomGrades(blankSemesters))
+                .english(randomGrades(blankSemesters))
+                .build();
+    }
+
+    private String randomGrades() {
+        return randomGrades(new boolean[6]);
+    }
+
+    private String randomGrades(boolean[] blankSemesters) {
+        char[] grades = new char[6];
+        for (int semester = 0; semester < 6; semester++) {
+            grades[semester] = blankSemesters[semester] ? 'X' : GRADES[random.nextInt(GRADES.length)];
+        }
+        return new String(grades);
+    }
+
+    private User createUser(GradeType gradeType, ApplyType applyType) {
+        return User.builder()
+                .receiptCode(1)
+                .gradeType(gradeType)
+                .applyType(applyType)
+                .build();
+    }
+
+}
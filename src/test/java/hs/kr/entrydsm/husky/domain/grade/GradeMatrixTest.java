@@ -0,0 +1,58 @@
+package hs.kr.entrydsm.husky.domain.grade;
+
+import kr.hs.entrydsm.husky.domain.grade.util.GradeUtil;
+import kr.hs.entrydsm.husky.domain.grade.value.GradeMatrix;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.GradeType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static kr.hs.entrydsm.husky.domain.grade.constant.Semester.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradeMatrixTest {
+
+    @Test
+    public void semesterSumsAndCountsSkipEmptyGrades() {
+        GradeMatrix matrix = new GradeMatrix("ABCDEX", "AAAAAX", "XXXXXX", "BBBBBX", "CCCCCX", "DDDDDX", "EEEEEX");
+
+        assertEquals(5, matrix.get(SEMESTER_1_1, 0));
+        assertEquals(0, matrix.get(SEMESTER_1_1, 2));
+        assertEquals(5 + 5 + 4 + 3 + 2 + 1, matrix.getSemesterSum(SEMESTER_1_1));
+        assertEquals(6, matrix.getSemesterCount(SEMESTER_1_1));
+        assertEquals(0, matrix.getSemesterSum(SEMESTER_3_2));
+        assertEquals(0, matrix.getSemesterCount(SEMESTER_3_2));
+    }
+
+    @Test
+    public void copySemesterKeepsSumsInSync() {
+        GradeMatrix matrix = new GradeMatrix("AXXXXX", "BXXXXX", "XXXXXX", "XXXXXX", "XXXXXX", "XXXXXX", "CXXXXX");
+
+        matrix.copySemester(SEMESTER_1_1, SEMESTER_1_2);
+
+        assertEquals(12, matrix.getSemesterSum(SEMESTER_1_2));
+        assertEquals(3, matrix.getSemesterCount(SEMESTER_1_2));
+        assertEquals(4, matrix.get(SEMESTER_1_2, 1));
+    }
+
+    @Test
+    public void fillEmptySemesterCopiesFromTheOtherHalfOfTheYear() {
+        User user = User.builder().gradeType(GradeType.UNGRADUATED).build();
+        GradeMatrix matrix = new GradeMatrix("XAAAAX", "XBBBBX", "XCCCCX", "XDDDDX", "XEEEEX", "XAAAAX", "XBBBBX");
+        GradeUtil gradeUtil = new GradeUtil(user, matrix);
+
+        gradeUtil.fillEmptySemester();
+
+        assertEquals(matrix.getSemesterSum(SEMESTER_1_2), matrix.getSemesterSum(SEMESTER_1_1));
+        assertEquals(new BigDecimal("3.42857"), gradeUtil.getScore(SEMESTER_1_1));
+        assertFalse(gradeUtil.isFirstGradeEmpty());
+    }
+
+    @Test
+    public void shortGradeStringIsRejected() {
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new GradeMatrix("AAA", "AAAAAA", "AAAAAA", "AAAAAA", "AAAAAA", "AAAAAA", "AAAAAA"));
+    }
+
+}
@@ -0,0 +1,185 @@
+package hs.kr.entrydsm.husky.domain.grade;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.HuskyApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.GEDApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.GraduatedApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.CalculatedScoreJdbcRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GEDApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GeneralApplicationRepositoryImpl;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GraduatedApplicationRepository;
+import kr.hs.entrydsm.husky.domain.grade.dto.GradeRecalcResponse;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeCalcService;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeCalcServiceImpl;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeRecalcService;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeRecalcServiceImpl;
+import kr.hs.entrydsm.husky.domain.ranking.service.RankingService;
+import kr.hs.entrydsm.husky.domain.schedule.exception.NotAdminException;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.AdditionalType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.ApplyType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.GradeType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.Sex;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
+import kr.hs.entrydsm.husky.global.config.security.AdminValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ActiveProfiles("test")
+@DataJpaTest(properties = {"grade.recalc.workers=2", "grade.recalc.page-size=1"})
+@ContextConfiguration(classes = HuskyApplication.class)
+@Import({GeneralApplicationRepositoryImpl.class, GradeCalcServiceImpl.class, GradeRecalcServiceImpl.class,
+        CalculatedScoreJdbcRepository.class, AdminValidator.class, GradeRecalcServiceTest.MeterRegistryConfig.class})
+class GradeRecalcServiceTest {
+
+    private static final String SECRET = "test";
+
+    @Autowired
+    private GradeRecalcService gradeRecalcService;
+
+    @Autowired
+    private GradeCalcService gradeCalcService;
+
+    @MockBean
+    private RankingService rankingService;
+
+    @Autowired
+    private CalculatedScoreJdbcRepository calculatedScoreJdbcRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GraduatedApplicationRepository graduatedApplicationRepository;
+
+    @Autowired
+    private GEDApplicationRepository gedApplicationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void dryRunReportsChangesWithoutWriting() {
+        List<Integer> receiptCodes = saveApplicants();
+
+        GradeRecalcResponse response = gradeRecalcService.recalculate(SECRET, true);
+
+        assertEquals(2, response.getTotal());
+        assertEquals(2, response.getChanged());
+        assertNull(response.getChanges().get(0).getPreviousFinalScore());
+        assertTrue(calculatedScoreJdbcRepository.findAllByReceiptCodes(receiptCodes).isEmpty());
+    }
+
+    @Test
+    public void recalculationWritesOnlyChangedScores() {
+        List<Integer> receiptCodes = saveApplicants();
+
+        GradeRecalcResponse first = gradeRecalcService.recalculate(SECRET, false);
+        Map<Integer, CalculatedScore> scores = calculatedScoreJdbcRepository.findAllByReceiptCodes(receiptCodes);
+
+        assertEquals(2, first.getChanged());
+        assertEquals(0, BigDecimal.valueOf(162.249).compareTo(scores.get(receiptCodes.get(0)).getFinalScore()));
+        assertEquals(0, BigDecimal.valueOf(52).compareTo(scores.get(receiptCodes.get(1)).getFinalScore()));
+
+        GEDApplication gedApplication = gedApplicationRepository.findById(receiptCodes.get(1)).orElseThrow();
+        gedApplication.updateGedAverageScore(BigDecimal.valueOf(90));
+        entityManager.flush();
+
+        GradeRecalcResponse second = gradeRecalcService.recalculate(SECRET, false);
+
+        assertEquals(1, second.getChanged());
+        assertEquals(1, second.getUnchanged());
+        assertEquals(receiptCodes.get(1), second.getChanges().get(0).getReceiptCode());
+        assertEquals(0, BigDecimal.valueOf(52).compareTo(second.getChanges().get(0).getPreviousFinalScore()));
+    }
+
+    @Test
+    public void unchangedScoreIsNotRankedAgain() {
+        List<Integer> receiptCodes = saveApplicants();
+        gradeRecalcService.recalculate(SECRET, false);
+        entityManager.clear();
+        clearInvocations(rankingService);
+
+        gradeRecalcService.recalculate(SECRET, false);
+        gradeCalcService.calcStudentGrade(userRepository.findById(receiptCodes.get(1)).orElseThrow());
+
+        verify(rankingService, never()).updateRanking(argThat((Collection<CalculatedScore> scores) -> !scores.isEmpty()));
+    }
+
+    @Test
+    public void recalculationRequiresAdminSecret() {
+        assertThrows(NotAdminException.class, () -> gradeRecalcService.recalculate("wrong", true));
+    }
+
+    private List<Integer> saveApplicants() {
+        User graduated = userRepository.save(createUser("graduated", GradeType.GRADUATED));
+        graduatedApplicationRepository.save(GraduatedApplication.graduatedApplicationBuilder()
+                .receiptCode(graduated.getReceiptCode())
+                .volunteerTime(39)
+                .fullCutCount(0)
+                .periodCutCount(0)
+                .lateCount(1)
+                .earlyLeaveCount(0)
+                .korean("ABBAAA")
+                .social("AAXAAB")
+                .history("AAAAAC")
+                .math("XABCAD")
+                .science("AABBAE")
+                .techAndHome("BABAAA")
+                .english("AAAAAB")
+                .build());
+
+        User ged = userRepository.save(createUser("ged", GradeType.GED));
+        gedApplicationRepository.save(GEDApplication.gedApplicationBuilder()
+                .receiptCode(ged.getReceiptCode())
+                .gedAverageScore(BigDecimal.valueOf(60))
+                .gedPassDate(LocalDate.of(2020, 5, 1))
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+        return List.of(graduated.getReceiptCode(), ged.getReceiptCode());
+    }
+
+    private User createUser(String email, GradeType gradeType) {
+        return User.builder()
+                .email(email)
+                .password("password")
+                .applyType(ApplyType.COMMON)
+                .gradeType(gradeType)
+                .additionalType(AdditionalType.NOT_APPLICABLE)
+                .isDaejeon(true)
+                .name("name")
+                .sex(Sex.MALE)
+                .build();
+    }
+
+    static class MeterRegistryConfig {
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package hs.kr.entrydsm.husky.domain.image;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.domain.image.service.ImageCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ImageCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void imageIsLoadedOnceUntilInvalidated() throws IOException {
+        ImageCache imageCache = new ImageCache(new SimpleMeterRegistry(), 1, false, directory.toString(), 1);
+
+        assertArrayEquals(new byte[]{1}, imageCache.get("images/a.jpg", () -> load(new byte[]{1})));
+        assertArrayEquals(new byte[]{1}, imageCache.get("images/a.jpg", () -> load(new byte[]{2})));
+        assertEquals(1, loads.get());
+
+        imageCache.invalidate("images/a.jpg");
+        assertArrayEquals(new byte[]{2}, imageCache.get("images/a.jpg", () -> load(new byte[]{2})));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void evictedImagesAreServedFromDisk() throws IOException {
+        ImageCache imageCache = new ImageCache(new SimpleMeterRegistry(), 1, true, directory.toString(), 16);
+
+        for (int i = 0; i < 3; i++) {
+            byte[] image = new byte[600 * 1024];
+            image[0] = (byte) i;
+            imageCache.get("images/" + i + ".jpg", () -> load(image));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            byte[] image = imageCache.get("images/" + i + ".jpg", () -> load(new byte[0]));
+            assertEquals(i, image[0]);
+        }
+        assertEquals(3, loads.get());
+    }
+
+    private byte[] load(byte[] image) {
+        loads.incrementAndGet();
+        return image;
+    }
+
+}
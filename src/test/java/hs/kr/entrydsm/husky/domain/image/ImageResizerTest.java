@@ -0,0 +1,54 @@
+package hs.kr.entrydsm.husky.domain.image;
+
+import kr.hs.entrydsm.husky.domain.image.util.ImageResizer;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageResizerTest {
+
+    @Test
+    public void largePhotoIsScaledDownToJpeg() throws IOException {
+        byte[] pdfImage = ImageResizer.toPdfImage(createPng(3000, 4000, BufferedImage.TYPE_INT_ARGB)).orElseThrow();
+
+        BufferedImage resized = ImageIO.read(new ByteArrayInputStream(pdfImage));
+        assertEquals(ImageResizer.MAX_WIDTH, resized.getWidth());
+        assertEquals(ImageResizer.MAX_HEIGHT, resized.getHeight());
+        assertEquals((byte) 0xFF, pdfImage[0]);
+        assertEquals((byte) 0xD8, pdfImage[1]);
+    }
+
+    @Test
+    public void smallPhotoIsNotScaledUp() throws IOException {
+        byte[] pdfImage = ImageResizer.toPdfImage(createPng(120, 160, BufferedImage.TYPE_INT_RGB)).orElseThrow();
+
+        BufferedImage resized = ImageIO.read(new ByteArrayInputStream(pdfImage));
+        assertEquals(120, resized.getWidth());
+        assertEquals(160, resized.getHeight());
+    }
+
+    @Test
+    public void undecodableFileIsSkipped() throws IOException {
+        assertTrue(ImageResizer.toPdfImage(new byte[]{1, 2, 3}).isEmpty());
+    }
+
+    @Test
+    public void pdfImageNameReplacesExtension() {
+        assertEquals("images/photo_pdf.jpg", ImageResizer.toPdfImageName("images/photo.png"));
+        assertEquals("images/photo_pdf.jpg", ImageResizer.toPdfImageName("images/photo"));
+        assertEquals("a.b/photo_pdf.jpg", ImageResizer.toPdfImageName("a.b/photo"));
+    }
+
+    private byte[] createPng(int width, int height, int type) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+}
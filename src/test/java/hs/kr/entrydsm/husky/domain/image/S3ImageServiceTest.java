@@ -0,0 +1,59 @@
+package hs.kr.entrydsm.husky.domain.image;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.S3Object;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.domain.image.service.ImageCache;
+import kr.hs.entrydsm.husky.domain.image.service.S3ImageServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class S3ImageServiceTest {
+
+    private static final String BUCKET = "bucket";
+
+    @TempDir
+    Path directory;
+
+    private final AmazonS3 s3 = mock(AmazonS3.class);
+
+    private S3ImageServiceImpl imageService;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        imageService = new S3ImageServiceImpl(s3, new ImageCache(new SimpleMeterRegistry(), 1, false, directory.toString(), 1));
+        ReflectionTestUtils.setField(imageService, "bucket", BUCKET);
+    }
+
+    @Test
+    public void missingPdfImageIsLookedUpOnce() throws IOException {
+        AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+        notFound.setStatusCode(404);
+        given(s3.getObject(BUCKET, "photo_pdf.jpg")).willThrow(notFound);
+        given(s3.getObject(BUCKET, "photo.png")).willAnswer(invocation -> object(new byte[]{1, 2}));
+
+        assertArrayEquals(new byte[]{1, 2}, imageService.getPdfImage("photo.png"));
+        assertArrayEquals(new byte[]{1, 2}, imageService.getPdfImage("photo.png"));
+
+        verify(s3, times(1)).getObject(BUCKET, "photo_pdf.jpg");
+        verify(s3, times(1)).getObject(BUCKET, "photo.png");
+    }
+
+    private S3Object object(byte[] content) {
+        S3Object object = new S3Object();
+        object.setObjectContent(new ByteArrayInputStream(content));
+        return object;
+    }
+
+}
@@ -0,0 +1,76 @@
+package hs.kr.entrydsm.husky.domain.info;
+
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GEDApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GeneralApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GraduatedApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.UnGraduatedApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.async.ApplicationAsyncRepository;
+import kr.hs.entrydsm.husky.domain.process.domain.ProcessCacheRepository;
+import kr.hs.entrydsm.husky.domain.ranking.service.RankingService;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.ApplyType;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.async.UserAsyncRepository;
+import kr.hs.entrydsm.husky.domain.user.dto.SelectTypeRequest;
+import kr.hs.entrydsm.husky.domain.user.service.type.UserTypeServiceImpl;
+import kr.hs.entrydsm.husky.global.config.security.AuthenticationFacade;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class UserTypeServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AuthenticationFacade authenticationFacade = mock(AuthenticationFacade.class);
+    private final RankingService rankingService = mock(RankingService.class);
+
+    private final User user = User.builder()
+            .receiptCode(1)
+            .applyType(ApplyType.COMMON)
+            .isDaejeon(true)
+            .build();
+
+    private UserTypeServiceImpl userTypeService;
+
+    @BeforeEach
+    public void setUp() {
+        userTypeService = new UserTypeServiceImpl(userRepository, mock(UserAsyncRepository.class),
+                mock(GEDApplicationRepository.class), mock(GraduatedApplicationRepository.class),
+                mock(ApplicationAsyncRepository.class), mock(UnGraduatedApplicationRepository.class),
+                mock(GeneralApplicationRepository.class), mock(ProcessCacheRepository.class), rankingService,
+                authenticationFacade);
+
+        given(authenticationFacade.getReceiptCode()).willReturn(1);
+        given(userRepository.findById(1)).willReturn(Optional.of(user));
+    }
+
+    @Test
+    public void regionChangeMovesRanking() {
+        userTypeService.updateUserType(SelectTypeRequest.builder().isDaejeon(false).build());
+
+        verify(rankingService).updateRanking(user);
+    }
+
+    @Test
+    public void applyTypeChangeMovesRanking() {
+        userTypeService.updateUserType(SelectTypeRequest.builder().applyType(ApplyType.MEISTER).build());
+
+        verify(rankingService).updateRanking(user);
+    }
+
+    @Test
+    public void unchangedClassificationLeavesRanking() {
+        userTypeService.updateUserType(SelectTypeRequest.builder()
+                .applyType(ApplyType.COMMON)
+                .isDaejeon(true)
+                .build());
+
+        verify(rankingService, never()).updateRanking(any(User.class));
+    }
+
+}
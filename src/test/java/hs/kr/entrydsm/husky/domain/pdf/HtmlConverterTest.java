@@ -0,0 +1,77 @@
+package hs.kr.entrydsm.husky.domain.pdf;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.domain.pdf.config.PdfConfig;
+import kr.hs.entrydsm.husky.domain.pdf.converter.HtmlConverter;
+import kr.hs.entrydsm.husky.domain.pdf.util.PdfStreamMerger;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HtmlConverterTest {
+
+    private static final String HTML = "<html><body style=\"font-family: KoPubWorldDotum\">" +
+            "<h1>대덕소프트웨어마이스터고등학교</h1><p>입학원서 ☑ ☐ ◯</p>" +
+            "<p style=\"page-break-before: always\">Second page</p></body></html>";
+
+    private final HtmlConverter htmlConverter =
+            new HtmlConverter(new PdfConfig(new SimpleMeterRegistry()).getPdfFontSetBean());
+
+    @Test
+    public void parallelRendersMatchSequentialRender() throws Exception {
+        List<String> expected = extractPages(htmlConverter.convertHtmlToPdf(HTML).toByteArray());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<byte[]>> renders = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                renders.add(executor.submit(() -> htmlConverter.convertHtmlToPdf(HTML).toByteArray()));
+            }
+
+            for (Future<byte[]> render : renders) {
+                assertEquals(expected, extractPages(render.get()));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void mergeKeepsDocumentOrder() throws Exception {
+        ByteArrayOutputStream merged = new ByteArrayOutputStream();
+        try (PdfStreamMerger merger = new PdfStreamMerger(merged)) {
+            merger.append(htmlConverter.convertHtmlToPdf("<p>first</p>"));
+            merger.append(htmlConverter.convertHtmlToPdf(HTML));
+            merger.append(htmlConverter.convertHtmlToPdf("<p>last</p>"));
+        }
+
+        List<String> pages = extractPages(merged.toByteArray());
+        assertEquals(4, pages.size());
+        assertEquals("first", pages.get(0));
+        assertEquals("Second page", pages.get(2));
+        assertEquals("last", pages.get(3));
+    }
+
+    private List<String> extractPages(byte[] pdf) throws IOException {
+        List<String> pages = new ArrayList<>();
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            for (int page = 1; page <= document.getNumberOfPages(); page++) {
+                pages.add(PdfTextExtractor.getTextFromPage(document.getPage(page)));
+            }
+        }
+        return pages;
+    }
+
+}
@@ -0,0 +1,52 @@
+package hs.kr.entrydsm.husky.domain.pdf;
+
+import kr.hs.entrydsm.husky.domain.pdf.controller.PDFExportController;
+import kr.hs.entrydsm.husky.domain.pdf.exception.UnprocessableEntityException;
+import kr.hs.entrydsm.husky.domain.pdf.service.PDFExportService;
+import kr.hs.entrydsm.husky.global.config.AbortResponseValve;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.OutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+class PDFExportControllerTest {
+
+    private final PDFExportService pdfExportService = mock(PDFExportService.class);
+    private final PDFExportController controller = new PDFExportController(pdfExportService);
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    public void failureBeforeCommitResetsResponse() {
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write("%PDF-".getBytes());
+            throw new UnprocessableEntityException();
+        }).given(pdfExportService).writeFinalPDFApplication(any());
+
+        assertThrows(UnprocessableEntityException.class, () -> controller.getFinalPDFApplication(request, response));
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertNull(response.getHeader("Content-Disposition"));
+        assertNull(request.getAttribute(AbortResponseValve.ABORT_ATTRIBUTE));
+    }
+
+    @Test
+    public void failureAfterCommitAbortsResponse() throws Exception {
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write("%PDF-".getBytes());
+            response.flushBuffer();
+            throw new UnprocessableEntityException();
+        }).given(pdfExportService).writeFinalPDFApplication(any());
+
+        controller.getFinalPDFApplication(request, response);
+
+        assertEquals(Boolean.TRUE, request.getAttribute(AbortResponseValve.ABORT_ATTRIBUTE));
+    }
+
+}
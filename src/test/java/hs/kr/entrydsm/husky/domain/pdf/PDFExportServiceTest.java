@@ -0,0 +1,137 @@
+package hs.kr.entrydsm.husky.domain.pdf;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GeneralApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeCalcService;
+import kr.hs.entrydsm.husky.domain.pdf.config.PdfConfig;
+import kr.hs.entrydsm.husky.domain.pdf.constant.TemplateFileName;
+import kr.hs.entrydsm.husky.domain.pdf.converter.ApplicationInfoConverter;
+import kr.hs.entrydsm.husky.domain.pdf.converter.HtmlConverter;
+import kr.hs.entrydsm.husky.domain.pdf.exception.FinalSubmitRequiredException;
+import kr.hs.entrydsm.husky.domain.pdf.exception.UnprocessableEntityException;
+import kr.hs.entrydsm.husky.domain.pdf.processor.PdfRenderProcessor;
+import kr.hs.entrydsm.husky.domain.pdf.processor.TemplateProcessor;
+import kr.hs.entrydsm.husky.domain.pdf.service.PDFExportServiceImpl;
+import kr.hs.entrydsm.husky.domain.pdf.service.PdfCacheService;
+import kr.hs.entrydsm.husky.domain.user.domain.Status;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.ApplyType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.GradeType;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.StatusRepository;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
+import kr.hs.entrydsm.husky.global.config.security.AuthenticationFacade;
+import kr.hs.entrydsm.husky.global.slack.SlackSenderManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class PDFExportServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TemplateProcessor templateProcessor = mock(TemplateProcessor.class);
+    private final GeneralApplicationRepository generalApplicationRepository = mock(GeneralApplicationRepository.class);
+    private final AuthenticationFacade authFacade = mock(AuthenticationFacade.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final StatusRepository statusRepository = mock(StatusRepository.class);
+    private final PdfCacheService pdfCacheService = mock(PdfCacheService.class);
+    private final GradeCalcService gradeCalcService = mock(GradeCalcService.class);
+
+    private final PdfRenderProcessor pdfRenderProcessor = new PdfRenderProcessor(templateProcessor,
+            new HtmlConverter(new PdfConfig(meterRegistry).getPdfFontSetBean()), meterRegistry, 2, 8, Duration.ofSeconds(30));
+
+    private final User user = User.builder()
+            .receiptCode(1)
+            .applyType(ApplyType.COMMON)
+            .gradeType(GradeType.GRADUATED)
+            .build();
+
+    private PDFExportServiceImpl pdfExportService;
+
+    @BeforeEach
+    public void setUp() {
+        pdfExportService = new PDFExportServiceImpl(authFacade, pdfRenderProcessor,
+                mock(SlackSenderManager.class), pdfCacheService, mock(ApplicationInfoConverter.class),
+                userRepository, statusRepository, generalApplicationRepository, gradeCalcService);
+
+        given(generalApplicationRepository.findSnapshotByUser(user)).willReturn(ApplicantSnapshot.empty(user));
+        given(templateProcessor.process(anyString(), any())).willReturn("<p>rendered</p>");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pdfRenderProcessor.shutdown();
+    }
+
+    @Test
+    public void templatesAreMergedIntoOneDocument() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        pdfExportService.writePDFApplication(user, outputStream);
+
+        assertTrue(outputStream.toString().startsWith("%PDF-"));
+        assertTrue(outputStream.toString().contains("%%EOF"));
+    }
+
+    @Test
+    public void failedFirstTemplateWritesNothing() {
+        given(templateProcessor.process(eq(TemplateFileName.APPLICATION_FOR_ADMISSION), any()))
+                .willThrow(new IllegalStateException("template failed"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertThrows(UnprocessableEntityException.class, () ->
+                pdfExportService.writePDFApplication(user, outputStream));
+        assertEquals(0, outputStream.size());
+    }
+
+    @Test
+    public void laterFailureLeavesDocumentUnterminated() {
+        given(templateProcessor.process(eq(TemplateFileName.NON_SMOKING), any()))
+                .willThrow(new IllegalStateException("template failed"));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertThrows(UnprocessableEntityException.class, () ->
+                pdfExportService.writePDFApplication(user, outputStream));
+        assertFalse(outputStream.toString().contains("%%EOF"));
+    }
+
+    @Test
+    public void cachedFinalApplicationSkipsRendering() throws IOException {
+        Status status = new Status(1);
+        status.finalSubmit();
+        given(authFacade.getReceiptCode()).willReturn(1);
+        given(userRepository.findById(1)).willReturn(Optional.of(user));
+        given(statusRepository.findById(1)).willReturn(Optional.of(status));
+        given(pdfCacheService.generateKey(any(), eq(status.getSubmittedAt()))).willReturn("key");
+        given(pdfCacheService.writeCached(eq(1), eq("key"), any())).willReturn(true);
+
+        pdfExportService.writeFinalPDFApplication(new ByteArrayOutputStream());
+
+        verify(generalApplicationRepository, never()).findSnapshotByUser(any());
+        verify(gradeCalcService, never()).calcStudentGrade(any(ApplicantSnapshot.class));
+        verify(pdfCacheService, never()).writeAndCache(any(), any(), any(), any());
+    }
+
+    @Test
+    public void finalApplicationRequiresSubmission() {
+        given(authFacade.getReceiptCode()).willReturn(1);
+        given(userRepository.findById(1)).willReturn(Optional.of(user));
+        given(statusRepository.findById(1)).willReturn(Optional.of(new Status(1)));
+
+        assertThrows(FinalSubmitRequiredException.class, () ->
+                pdfExportService.writeFinalPDFApplication(new ByteArrayOutputStream()));
+    }
+
+}
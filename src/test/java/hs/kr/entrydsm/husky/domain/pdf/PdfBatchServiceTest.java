@@ -0,0 +1,169 @@
+package hs.kr.entrydsm.husky.domain.pdf;
+
+import kr.hs.entrydsm.husky.domain.pdf.dto.PdfBatchStatusResponse;
+import kr.hs.entrydsm.husky.domain.pdf.exception.PdfRenderOverloadedException;
+import kr.hs.entrydsm.husky.domain.pdf.service.PDFExportService;
+import kr.hs.entrydsm.husky.domain.pdf.service.PdfBatchServiceImpl;
+import kr.hs.entrydsm.husky.domain.user.domain.Status;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.ApplyType;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.StatusRepository;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
+import kr.hs.entrydsm.husky.global.config.security.AdminValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+class PdfBatchServiceTest {
+
+    private static final String SECRET = "test";
+
+    @TempDir
+    Path directory;
+
+    private final StatusRepository statusRepository = mock(StatusRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PDFExportService pdfExportService = mock(PDFExportService.class);
+
+    private PdfBatchServiceImpl pdfBatchService;
+
+    @BeforeEach
+    public void setUp() {
+        pdfBatchService = new PdfBatchServiceImpl(statusRepository, userRepository, pdfExportService,
+                new AdminValidator("dGVzdA=="));
+        ReflectionTestUtils.setField(pdfBatchService, "directory", directory.toString());
+        ReflectionTestUtils.setField(pdfBatchService, "workerCount", 2);
+        ReflectionTestUtils.setField(pdfBatchService, "pageSize", 10);
+        pdfBatchService.initialize();
+
+        willAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            write(invocation.getArgument(1), "pdf-" + user.getReceiptCode());
+            return null;
+        }).given(pdfExportService).writePDFApplication(any(), any());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pdfBatchService.shutdown();
+    }
+
+    @Test
+    public void existingFilesAreSkippedOnResume() throws Exception {
+        User first = user(1, ApplyType.COMMON, true);
+        User second = user(2, ApplyType.COMMON, true);
+        givenFinalSubmitted(first, second);
+        Path existing = Files.createDirectories(directory.resolve("COMMON_DAEJEON")).resolve("1.pdf");
+        Files.writeString(existing, "previous run");
+
+        PdfBatchStatusResponse status = runBatch();
+
+        assertEquals("COMPLETED", status.getState());
+        assertEquals(1, status.getSkipped());
+        assertEquals(1, status.getRendered());
+        assertEquals("previous run", Files.readString(existing));
+        verify(pdfExportService, never()).writePDFApplication(eq(first), any());
+    }
+
+    @Test
+    public void overloadedRenderIsRetried() throws Exception {
+        User user = user(1, ApplyType.MEISTER, false);
+        givenFinalSubmitted(user);
+        willAnswer(invocation -> {
+            throw new PdfRenderOverloadedException();
+        }).willAnswer(invocation -> {
+            write(invocation.getArgument(1), "pdf-1");
+            return null;
+        }).given(pdfExportService).writePDFApplication(eq(user), any());
+
+        PdfBatchStatusResponse status = runBatch();
+
+        assertEquals(1, status.getRendered());
+        assertEquals(0, status.getFailed());
+        assertEquals("pdf-1", Files.readString(directory.resolve("MEISTER_NATIONWIDE").resolve("1.pdf")));
+        verify(pdfExportService, times(2)).writePDFApplication(eq(user), any());
+    }
+
+    @Test
+    public void archiveHoldsEveryApplicationByGroup() throws Exception {
+        givenFinalSubmitted(user(1, ApplyType.COMMON, true), user(2, ApplyType.MEISTER, false));
+
+        PdfBatchStatusResponse status = runBatch();
+        assertTrue(status.isArchiveReady());
+
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        pdfBatchService.writeBatchArchive(SECRET, archive);
+
+        Map<String, String> entries = readZip(archive.toByteArray());
+        assertEquals(Map.of("COMMON_DAEJEON/1.pdf", "pdf-1", "MEISTER_NATIONWIDE/2.pdf", "pdf-2"), entries);
+    }
+
+    private PdfBatchStatusResponse runBatch() throws InterruptedException {
+        PdfBatchStatusResponse status = pdfBatchService.startBatch(SECRET);
+        long deadline = System.currentTimeMillis() + 30_000;
+        while ("RUNNING".equals(status.getState()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            status = pdfBatchService.getBatchStatus(SECRET);
+        }
+        return status;
+    }
+
+    private void givenFinalSubmitted(User... users) {
+        List<User> userList = List.of(users);
+        List<Status> statuses = userList.stream()
+                .map(user -> new Status(user.getReceiptCode()))
+                .collect(Collectors.toList());
+        given(statusRepository.findAllByIsFinalSubmitTrue(any()))
+                .willReturn(new PageImpl<>(statuses, PageRequest.of(0, 10), statuses.size()));
+        given(userRepository.findAllById(any())).willReturn(userList);
+    }
+
+    private User user(int receiptCode, ApplyType applyType, boolean isDaejeon) {
+        return User.builder()
+                .receiptCode(receiptCode)
+                .applyType(applyType)
+                .isDaejeon(isDaejeon)
+                .build();
+    }
+
+    private Map<String, String> readZip(byte[] bytes) throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    private void write(OutputStream outputStream, String content) throws IOException {
+        outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
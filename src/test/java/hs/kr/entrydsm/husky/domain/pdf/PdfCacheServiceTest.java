@@ -0,0 +1,121 @@
+package hs.kr.entrydsm.husky.domain.pdf;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.domain.pdf.constant.TemplateFileName;
+import kr.hs.entrydsm.husky.domain.pdf.service.FilePdfCacheServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdfCacheServiceTest {
+
+    private static final List<String> TEMPLATES = List.of(TemplateFileName.APPLICATION_FOR_ADMISSION);
+    private static final LocalDateTime SUBMITTED_AT = LocalDateTime.of(2020, 10, 20, 12, 0);
+
+    @TempDir
+    Path directory;
+
+    private FilePdfCacheServiceImpl pdfCacheService;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        pdfCacheService = createService(1);
+    }
+
+    @Test
+    public void keyChangesWithSubmission() {
+        String key = pdfCacheService.generateKey(TEMPLATES, SUBMITTED_AT);
+
+        assertEquals(key, pdfCacheService.generateKey(TEMPLATES, SUBMITTED_AT));
+        assertNotEquals(key, pdfCacheService.generateKey(TEMPLATES, SUBMITTED_AT.plusSeconds(1)));
+        assertNotEquals(key, pdfCacheService.generateKey(List.of(TemplateFileName.INTRODUCTION), SUBMITTED_AT));
+    }
+
+    @Test
+    public void cachedOutputIsServedAndReplacedPerApplicant() throws IOException {
+        String first = pdfCacheService.generateKey(TEMPLATES, SUBMITTED_AT);
+        ByteArrayOutputStream rendered = new ByteArrayOutputStream();
+
+        assertFalse(pdfCacheService.writeCached(1, first, new ByteArrayOutputStream()));
+        pdfCacheService.writeAndCache(1, first, rendered, out -> write(out, "first"));
+        assertEquals("first", rendered.toString());
+
+        ByteArrayOutputStream cached = new ByteArrayOutputStream();
+        assertTrue(pdfCacheService.writeCached(1, first, cached));
+        assertEquals("first", cached.toString());
+
+        String second = pdfCacheService.generateKey(TEMPLATES, SUBMITTED_AT.plusDays(1));
+        pdfCacheService.writeAndCache(1, second, new ByteArrayOutputStream(), out -> write(out, "second"));
+
+        assertFalse(pdfCacheService.writeCached(1, first, new ByteArrayOutputStream()));
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    public void failedRenderIsNotCached() throws IOException {
+        String key = pdfCacheService.generateKey(TEMPLATES, SUBMITTED_AT);
+
+        assertThrows(IllegalStateException.class, () -> pdfCacheService.writeAndCache(1, key,
+                new ByteArrayOutputStream(), out -> {
+                    write(out, "partial");
+                    throw new IllegalStateException();
+                }));
+
+        assertFalse(pdfCacheService.writeCached(1, key, new ByteArrayOutputStream()));
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesAreEvicted() throws IOException {
+        byte[] halfMegabyte = new byte[512 * 1024];
+        for (int receiptCode = 1; receiptCode <= 3; receiptCode++) {
+            pdfCacheService.writeAndCache(receiptCode, "key", new ByteArrayOutputStream(), out -> {
+                try {
+                    out.write(halfMegabyte);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+
+        assertFalse(pdfCacheService.writeCached(1, "key", new ByteArrayOutputStream()));
+        assertTrue(pdfCacheService.writeCached(3, "key", new ByteArrayOutputStream()));
+        assertEquals(2, countFiles());
+    }
+
+    private FilePdfCacheServiceImpl createService(long maxSizeMb) throws IOException {
+        FilePdfCacheServiceImpl service = new FilePdfCacheServiceImpl(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "directory", directory.toString());
+        ReflectionTestUtils.setField(service, "maxSizeMb", maxSizeMb);
+        service.loadEntries();
+        return service;
+    }
+
+    private void write(OutputStream outputStream, String value) {
+        try {
+            outputStream.write(value.getBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package hs.kr.entrydsm.husky.domain.pdf;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.domain.pdf.config.PdfConfig;
+import kr.hs.entrydsm.husky.domain.pdf.converter.HtmlConverter;
+import kr.hs.entrydsm.husky.domain.pdf.exception.PdfRenderOverloadedException;
+import kr.hs.entrydsm.husky.domain.pdf.processor.PdfRenderProcessor;
+import kr.hs.entrydsm.husky.domain.pdf.processor.TemplateProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PdfRenderProcessorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TemplateProcessor templateProcessor = mock(TemplateProcessor.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final HtmlConverter htmlConverter = new HtmlConverter(new PdfConfig(meterRegistry).getPdfFontSetBean());
+
+    private final PdfRenderProcessor pdfRenderProcessor = new PdfRenderProcessor(templateProcessor, htmlConverter,
+            meterRegistry, 1, 1, Duration.ofSeconds(30));
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        pdfRenderProcessor.shutdown();
+    }
+
+    @Test
+    public void rendersTemplatesAndRecordsTimings() {
+        release.countDown();
+        when(templateProcessor.process(anyString(), any())).thenReturn("<p>rendered</p>");
+
+        List<Future<ByteArrayOutputStream>> documents =
+                pdfRenderProcessor.renderAll(List.of("/introduction"), Map.of());
+
+        assertTrue(pdfRenderProcessor.await(documents.get(0)).size() > 0);
+        assertEquals(1, meterRegistry.get("pdf.render").tag("template", "/introduction").timer().count());
+    }
+
+    @Test
+    public void rejectsWhenQueueIsFull() {
+        when(templateProcessor.process(anyString(), any())).thenAnswer(invocation -> {
+            release.await();
+            return "<p>rendered</p>";
+        });
+
+        assertThrows(PdfRenderOverloadedException.class, () ->
+                pdfRenderProcessor.renderAll(List.of("/a", "/b", "/c"), Map.of()));
+        assertEquals(1, meterRegistry.get("pdf.render.rejected").counter().count());
+    }
+
+    @Test
+    public void cancelsTemplateThatTimesOut() {
+        when(templateProcessor.process(anyString(), any())).thenAnswer(invocation -> {
+            release.await();
+            return "<p>rendered</p>";
+        });
+
+        PdfRenderProcessor timingOut = new PdfRenderProcessor(templateProcessor, htmlConverter, meterRegistry, 1, 1,
+                Duration.ofMillis(100));
+        try {
+            Future<ByteArrayOutputStream> document = timingOut.renderAll(List.of("/a"), Map.of()).get(0);
+
+            assertThrows(PdfRenderOverloadedException.class, () -> timingOut.await(document));
+            assertTrue(document.isCancelled());
+            assertEquals(1, meterRegistry.get("pdf.render.timeout").counter().count());
+        } finally {
+            timingOut.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package hs.kr.entrydsm.husky.domain.pdf;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.domain.pdf.config.PdfConfig;
+import kr.hs.entrydsm.husky.domain.pdf.config.PdfWarmUpRunner;
+import kr.hs.entrydsm.husky.domain.pdf.constant.TemplateFileName;
+import kr.hs.entrydsm.husky.domain.pdf.converter.HtmlConverter;
+import kr.hs.entrydsm.husky.domain.pdf.processor.PdfRenderProcessor;
+import kr.hs.entrydsm.husky.domain.pdf.processor.TemplateProcessor;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PdfWarmUpRunnerTest {
+
+    @Test
+    public void warmUpRendersEveryTemplate() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PdfConfig pdfConfig = new PdfConfig(meterRegistry);
+        PdfRenderProcessor pdfRenderProcessor = new PdfRenderProcessor(
+                new TemplateProcessor(pdfConfig.getTemplateEngineBean()),
+                new HtmlConverter(pdfConfig.getPdfFontSetBean()), meterRegistry, 2, 8, Duration.ofSeconds(30));
+
+        try {
+            new PdfWarmUpRunner(pdfRenderProcessor, meterRegistry).run(new DefaultApplicationArguments());
+        } finally {
+            pdfRenderProcessor.shutdown();
+        }
+
+        assertNull(meterRegistry.find("pdf.warmup.failures").counter());
+        assertEquals(1, meterRegistry.get("pdf.render")
+                .tag("template", TemplateFileName.APPLICATION_FOR_ADMISSION).timer().count());
+    }
+
+}
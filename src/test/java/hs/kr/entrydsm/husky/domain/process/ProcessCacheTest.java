@@ -0,0 +1,102 @@
+package hs.kr.entrydsm.husky.domain.process;
+
+import hs.kr.entrydsm.husky.global.redis.EmbeddedRedisExtension;
+import kr.hs.entrydsm.husky.HuskyApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GeneralApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeCalcService;
+import kr.hs.entrydsm.husky.domain.process.domain.ProcessCacheRepository;
+import kr.hs.entrydsm.husky.domain.process.dto.ProcessResponse;
+import kr.hs.entrydsm.husky.domain.process.service.ProcessService;
+import kr.hs.entrydsm.husky.domain.process.service.ProcessServiceImpl;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
+import kr.hs.entrydsm.husky.global.config.security.AuthenticationFacade;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(EmbeddedRedisExtension.class)
+@ActiveProfiles("test")
+@DataRedisTest
+@ContextConfiguration(classes = HuskyApplication.class)
+@Import(ProcessServiceImpl.class)
+class ProcessCacheTest {
+
+    private static final int RECEIPT_CODE = 1;
+
+    @Autowired
+    private ProcessService processService;
+
+    @Autowired
+    private ProcessCacheRepository processCacheRepository;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private GeneralApplicationRepository generalApplicationRepository;
+
+    @MockBean
+    private AuthenticationFacade authenticationFacade;
+
+    @MockBean
+    private GradeCalcService gradeCalcService;
+
+    @DynamicPropertySource
+    static void redis(DynamicPropertyRegistry registry) {
+        registry.add("spring.redis.port", EmbeddedRedisExtension::getPort);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        processCacheRepository.deleteAll();
+
+        User user = User.builder()
+                .email("email")
+                .password("password")
+                .build();
+        given(authenticationFacade.getReceiptCode()).willReturn(RECEIPT_CODE);
+        given(userRepository.findById(RECEIPT_CODE)).willReturn(Optional.of(user));
+        given(generalApplicationRepository.findSnapshotByUser(any())).willReturn(ApplicantSnapshot.empty(user));
+    }
+
+    @Test
+    public void pollingIsServedFromCache() {
+        processService.getProcess();
+        ProcessResponse response = processService.getProcess();
+
+        assertFalse(response.isType());
+        verify(userRepository, times(1)).findById(RECEIPT_CODE);
+        verify(generalApplicationRepository, times(1)).findSnapshotByUser(any());
+    }
+
+    @Test
+    public void evictedProcessIsEvaluatedAgain() {
+        processService.getProcess();
+        assertTrue(processCacheRepository.existsById(RECEIPT_CODE));
+
+        processCacheRepository.deleteById(RECEIPT_CODE);
+        processService.getProcess();
+
+        verify(userRepository, times(2)).findById(RECEIPT_CODE);
+    }
+
+}
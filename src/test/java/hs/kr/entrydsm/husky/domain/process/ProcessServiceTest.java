@@ -0,0 +1,232 @@
+package hs.kr.entrydsm.husky.domain.process;
+
+import hs.kr.entrydsm.husky.global.query.QueryBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.HuskyApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.GEDApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.GraduatedApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.CalculatedScoreJdbcRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GEDApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GeneralApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GeneralApplicationRepositoryImpl;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GraduatedApplicationRepository;
+import kr.hs.entrydsm.husky.domain.application.domain.value.ApplicantSnapshot;
+import kr.hs.entrydsm.husky.domain.application.domain.value.GradeScore;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeCalcService;
+import kr.hs.entrydsm.husky.domain.grade.service.GradeCalcServiceImpl;
+import kr.hs.entrydsm.husky.domain.process.domain.ProcessCache;
+import kr.hs.entrydsm.husky.domain.process.domain.ProcessCacheRepository;
+import kr.hs.entrydsm.husky.domain.process.dto.ProcessResponse;
+import kr.hs.entrydsm.husky.domain.process.service.ProcessService;
+import kr.hs.entrydsm.husky.domain.process.service.ProcessServiceImpl;
+import kr.hs.entrydsm.husky.domain.ranking.service.RankingService;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.AdditionalType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.ApplyType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.GradeType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.Sex;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
+import kr.hs.entrydsm.husky.global.config.security.AuthenticationFacade;
+import kr.hs.entrydsm.husky.global.query.QueryCountConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@ContextConfiguration(classes = HuskyApplication.class)
+@Import({ProcessServiceImpl.class, GeneralApplicationRepositoryImpl.class, GradeCalcServiceImpl.class,
+        CalculatedScoreJdbcRepository.class, QueryCountConfig.class, SimpleMeterRegistry.class})
+class ProcessServiceTest {
+
+    @Autowired
+    private ProcessService processService;
+
+    @MockBean
+    private AuthenticationFacade authenticationFacade;
+
+    @MockBean
+    private ProcessCacheRepository processCacheRepository;
+
+    @MockBean
+    private RankingService rankingService;
+
+    @Autowired
+    private GradeCalcService gradeCalcService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GraduatedApplicationRepository graduatedApplicationRepository;
+
+    @Autowired
+    private GEDApplicationRepository gedApplicationRepository;
+
+    @Autowired
+    private GeneralApplicationRepository generalApplicationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    public void setUp() {
+        given(processCacheRepository.save(any(ProcessCache.class))).will(returnsFirstArg());
+    }
+
+    @Test
+    public void processIsEvaluatedWithTwoQueries() {
+        User user = saveUser(GradeType.GRADUATED, "introduction");
+        graduatedApplicationRepository.save(GraduatedApplication.graduatedApplicationBuilder()
+                .receiptCode(user.getReceiptCode())
+                .graduatedDate(LocalDate.of(2020, 2, 1))
+                .volunteerTime(39)
+                .fullCutCount(0)
+                .periodCutCount(0)
+                .lateCount(1)
+                .earlyLeaveCount(0)
+                .korean("ABBAAA")
+                .social("AAXAAB")
+                .history("AAAAAC")
+                .math("XABCAD")
+                .science("AABBAE")
+                .techAndHome("BABAAA")
+                .english("AAAAAB")
+                .build());
+        clear();
+        given(authenticationFacade.getReceiptCode()).willReturn(user.getReceiptCode());
+
+        AtomicReference<ProcessResponse> response = new AtomicReference<>();
+        QueryBudget.assertAtMost(2, () -> response.set(processService.getProcess()));
+
+        assertTrue(response.get().isType());
+        assertFalse(response.get().isInfo());
+        assertTrue(response.get().isScore());
+        assertTrue(response.get().isDocument());
+        assertFalse(response.get().isCompleted());
+    }
+
+    @Test
+    public void missingTypeFailsEveryDependentStep() {
+        User user = saveUser(GradeType.GED, null);
+        gedApplicationRepository.save(GEDApplication.gedApplicationBuilder()
+                .receiptCode(user.getReceiptCode())
+                .gedAverageScore(BigDecimal.valueOf(90))
+                .build());
+        clear();
+        given(authenticationFacade.getReceiptCode()).willReturn(user.getReceiptCode());
+
+        ProcessResponse response = processService.getProcess();
+
+        assertFalse(response.isType());
+        assertFalse(response.isInfo());
+        assertFalse(response.isScore());
+        assertFalse(response.isDocument());
+    }
+
+    @Test
+    public void incompleteProcessFailsFinalCheck() {
+        User user = saveUser(GradeType.UNGRADUATED, "introduction");
+        clear();
+        User found = userRepository.findById(user.getReceiptCode()).orElseThrow();
+        ApplicantSnapshot snapshot = generalApplicationRepository.findSnapshotByUser(found);
+
+        CalculatedScore score = CalculatedScore.builder()
+                .user(found)
+                .volunteerScore(BigDecimal.TEN)
+                .attendanceScore(15)
+                .gradeScore(new GradeScore(BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE))
+                .build();
+
+        assertFalse(processService.allCheck(snapshot, score));
+    }
+
+    @Test
+    public void invalidScoreIsNotCompletedInProgressOrFinalCheck() {
+        User user = saveGEDApplicant(BigDecimal.valueOf(30));
+        given(authenticationFacade.getReceiptCode()).willReturn(user.getReceiptCode());
+
+        ProcessResponse response = processService.getProcess();
+
+        assertTrue(response.isInfo());
+        assertFalse(response.isScore());
+        assertFalse(response.isCompleted());
+        assertFalse(allCheck(user));
+    }
+
+    @Test
+    public void validScoreIsCompletedInProgressAndFinalCheck() {
+        User user = saveGEDApplicant(BigDecimal.valueOf(90));
+        given(authenticationFacade.getReceiptCode()).willReturn(user.getReceiptCode());
+
+        assertTrue(processService.getProcess().isCompleted());
+        assertTrue(allCheck(user));
+    }
+
+    private boolean allCheck(User user) {
+        User found = userRepository.findById(user.getReceiptCode()).orElseThrow();
+        ApplicantSnapshot snapshot = generalApplicationRepository.findSnapshotByUser(found);
+        return processService.allCheck(snapshot, gradeCalcService.calculate(snapshot));
+    }
+
+    private User saveGEDApplicant(BigDecimal gedAverageScore) {
+        User user = saveUser(GradeType.GED, "introduction");
+        user.setBirthDate(LocalDate.of(2004, 3, 1));
+        user.setApplicantTel("01012345678");
+        user.setParentTel("01087654321");
+        user.setParentName("parent");
+        user.setAddress("address");
+        user.setDetailAddress("detail");
+        user.setPostCode("34111");
+        user.setUserPhoto("photo.png");
+        userRepository.save(user);
+        gedApplicationRepository.save(GEDApplication.gedApplicationBuilder()
+                .receiptCode(user.getReceiptCode())
+                .gedPassDate(LocalDate.of(2020, 5, 1))
+                .gedAverageScore(gedAverageScore)
+                .build());
+        clear();
+        return user;
+    }
+
+    private User saveUser(GradeType gradeType, String selfIntroduction) {
+        User user = userRepository.save(User.builder()
+                .email("email")
+                .password("password")
+                .applyType(ApplyType.COMMON)
+                .gradeType(gradeType)
+                .additionalType(AdditionalType.NOT_APPLICABLE)
+                .isDaejeon(true)
+                .name("name")
+                .sex(Sex.MALE)
+                .build());
+        if (selfIntroduction != null) {
+            user.setSelfIntroduction(selfIntroduction);
+            user.setStudyPlan("plan");
+        }
+        return userRepository.save(user);
+    }
+
+    private void clear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+}
@@ -0,0 +1,100 @@
+package hs.kr.entrydsm.husky.domain.ranking;
+
+import hs.kr.entrydsm.husky.global.redis.EmbeddedRedisExtension;
+import kr.hs.entrydsm.husky.domain.application.domain.CalculatedScore;
+import kr.hs.entrydsm.husky.domain.application.domain.value.GradeScore;
+import kr.hs.entrydsm.husky.domain.ranking.domain.AdmissionGroup;
+import kr.hs.entrydsm.husky.domain.ranking.domain.RankingRepository;
+import kr.hs.entrydsm.husky.domain.ranking.domain.Region;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.ApplyType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(EmbeddedRedisExtension.class)
+class RankingRepositoryTest {
+
+    private RankingRepository rankingRepository;
+
+    @BeforeEach
+    public void setUp() {
+        StringRedisTemplate redisTemplate = EmbeddedRedisExtension.createTemplate();
+        rankingRepository = new RankingRepository(redisTemplate);
+    }
+
+    @Test
+    public void tiedScoresShareARank() {
+        rankingRepository.saveAll(List.of(
+                score(1, ApplyType.COMMON, true, "150.500"),
+                score(2, ApplyType.COMMON, true, "162.249"),
+                score(3, ApplyType.COMMON, true, "150.500"),
+                score(4, ApplyType.COMMON, true, "120.000"),
+                score(5, ApplyType.COMMON, false, "170.000")));
+
+        List<String> top = rankingRepository.findTop(AdmissionGroup.COMMON, Region.DAEJEON, 10).stream()
+                .map(TypedTuple::getValue)
+                .collect(Collectors.toList());
+        assertEquals(4, top.size());
+        assertEquals("2", top.get(0));
+        assertEquals("4", top.get(3));
+        assertEquals(2, rankingRepository.getRank(AdmissionGroup.COMMON, Region.DAEJEON, new BigDecimal("150.500")));
+        assertEquals(4, rankingRepository.getRank(AdmissionGroup.COMMON, Region.DAEJEON, new BigDecimal("120.000")));
+        assertEquals(3, rankingRepository.countAtLeast(AdmissionGroup.COMMON, Region.DAEJEON, new BigDecimal("150.500")));
+        assertEquals(1, rankingRepository.count(AdmissionGroup.COMMON, Region.NATIONWIDE));
+    }
+
+    @Test
+    public void applicantMovesWhenApplyTypeChanges() {
+        rankingRepository.save(score(1, ApplyType.COMMON, true, "150.000"));
+        rankingRepository.save(score(1, ApplyType.SOCIAL_ONE_PARENT, true, "90.000"));
+
+        assertEquals(0, rankingRepository.count(AdmissionGroup.COMMON, Region.DAEJEON));
+        assertEquals(new BigDecimal("90.000"), rankingRepository.findByRank(AdmissionGroup.SOCIAL, Region.DAEJEON, 1)
+                .map(entry -> RankingRepository.toScore(entry.getScore()))
+                .orElseThrow());
+    }
+
+    @Test
+    public void applicantMovesWhenRegionChangesWithSameScore() {
+        rankingRepository.save(score(1, ApplyType.COMMON, true, "150.000"));
+        rankingRepository.save(score(1, ApplyType.COMMON, false, "150.000"));
+
+        assertEquals(0, rankingRepository.count(AdmissionGroup.COMMON, Region.DAEJEON));
+        assertEquals(1, rankingRepository.count(AdmissionGroup.COMMON, Region.NATIONWIDE));
+    }
+
+    @Test
+    public void replaceAllDropsStaleEntries() {
+        rankingRepository.save(score(1, ApplyType.MEISTER, false, "140.000"));
+
+        rankingRepository.replaceAll(List.of(score(2, ApplyType.COMMON, false, "130.000")));
+
+        assertEquals(0, rankingRepository.count(AdmissionGroup.MEISTER, Region.NATIONWIDE));
+        assertEquals(1, rankingRepository.count(AdmissionGroup.COMMON, Region.NATIONWIDE));
+    }
+
+    private CalculatedScore score(int receiptCode, ApplyType applyType, boolean isDaejeon, String finalScore) {
+        User user = User.builder()
+                .receiptCode(receiptCode)
+                .applyType(applyType)
+                .isDaejeon(isDaejeon)
+                .build();
+        return CalculatedScore.builder()
+                .user(user)
+                .volunteerScore(BigDecimal.ZERO)
+                .attendanceScore(0)
+                .gradeScore(GradeScore.EMPTY())
+                .finalScore(new BigDecimal(finalScore))
+                .build();
+    }
+
+}
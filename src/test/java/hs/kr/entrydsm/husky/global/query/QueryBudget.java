@@ -0,0 +1,48 @@
+package hs.kr.entrydsm.husky.global.query;
+
+import kr.hs.entrydsm.husky.global.query.QueryCount;
+import kr.hs.entrydsm.husky.global.query.QueryCounter;
+import org.junit.jupiter.api.function.Executable;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Map;
+
+// Fails a test when the given block issues more Hibernate statements than its budget.
+// Needs QueryCountConfig in the context so that the counter is registered with Hibernate.
+public class QueryBudget {
+
+    public static QueryCount assertAtMost(int budget, Executable executable) {
+        QueryCount queryCount = count(executable);
+        if (queryCount.getCount() > budget)
+            throw new AssertionFailedError(message(budget, queryCount), budget, queryCount.getCount());
+        return queryCount;
+    }
+
+    public static QueryCount assertNoRepeats(Executable executable) {
+        QueryCount queryCount = count(executable);
+        Map<String, Integer> repeated = queryCount.getRepeatedStatements(2);
+        if (!repeated.isEmpty())
+            throw new AssertionFailedError("statements were repeated: " + repeated);
+        return queryCount;
+    }
+
+    public static QueryCount count(Executable executable) {
+        QueryCount queryCount = QueryCounter.start();
+        try {
+            executable.execute();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        } finally {
+            QueryCounter.stop(queryCount);
+        }
+        return queryCount;
+    }
+
+    private static String message(int budget, QueryCount queryCount) {
+        return String.format("expected at most %d queries but %d were issued: %s",
+                budget, queryCount.getCount(), queryCount.getStatements());
+    }
+
+}
@@ -0,0 +1,131 @@
+package hs.kr.entrydsm.husky.global.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.HuskyApplication;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
+import kr.hs.entrydsm.husky.global.query.QueryCount;
+import kr.hs.entrydsm.husky.global.query.QueryCountConfig;
+import kr.hs.entrydsm.husky.global.query.QueryCountFilter;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@ContextConfiguration(classes = HuskyApplication.class)
+@Import({QueryCountConfig.class, QueryCounterTest.MetricsConfig.class})
+class QueryCounterTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void countsStatementsWithinBudget() {
+        List<Integer> receiptCodes = saveUsers(3);
+
+        QueryCount queryCount = QueryBudget.assertAtMost(1, () -> userRepository.findAllById(receiptCodes));
+
+        assertEquals(1, queryCount.getCount());
+    }
+
+    @Test
+    public void failsWhenBudgetIsExceeded() {
+        List<Integer> receiptCodes = saveUsers(3);
+
+        AssertionFailedError error = assertThrows(AssertionFailedError.class, () ->
+                QueryBudget.assertAtMost(1, () -> receiptCodes.forEach(userRepository::findById)));
+
+        assertTrue(error.getMessage().contains("3 were issued"));
+    }
+
+    @Test
+    public void reportsRepeatedStatements() {
+        List<Integer> receiptCodes = saveUsers(3);
+
+        assertThrows(AssertionFailedError.class, () ->
+                QueryBudget.assertNoRepeats(() -> receiptCodes.forEach(userRepository::findById)));
+    }
+
+    @Test
+    public void nestedScopesAlsoCountTowardsTheOuterScope() {
+        List<Integer> receiptCodes = saveUsers(2);
+
+        QueryCount outer = QueryBudget.count(() -> {
+            userRepository.findById(receiptCodes.get(0));
+            QueryCount inner = QueryBudget.count(() -> userRepository.findById(receiptCodes.get(1)));
+            assertEquals(1, inner.getCount());
+        });
+
+        assertEquals(2, outer.getCount());
+    }
+
+    @Test
+    public void filterRecordsQueriesPerEndpoint() throws Exception {
+        List<Integer> receiptCodes = saveUsers(2);
+        QueryCountFilter filter = new QueryCountFilter(meterRegistry, 20, 3);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/" + receiptCodes.get(0));
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/users/{receiptCode}");
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> receiptCodes.forEach(userRepository::findById));
+
+        DistributionSummary summary = meterRegistry.find(QueryCountFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/users/{receiptCode}")
+                .summary();
+        assertNotNull(summary);
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+    }
+
+    private List<Integer> saveUsers(int count) {
+        List<Integer> receiptCodes = IntStream.range(0, count)
+                .mapToObj(i -> userRepository.save(User.builder()
+                        .email("email" + i)
+                        .password("password")
+                        .build()).getReceiptCode())
+                .collect(Collectors.toList());
+        entityManager.flush();
+        entityManager.clear();
+        return receiptCodes;
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+package hs.kr.entrydsm.husky.global.ratelimit;
+
+import hs.kr.entrydsm.husky.global.redis.EmbeddedRedisExtension;
+import kr.hs.entrydsm.husky.global.config.security.RateLimitFilter;
+import kr.hs.entrydsm.husky.global.error.exception.TooManyRequestException;
+import kr.hs.entrydsm.husky.global.ratelimit.RateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(EmbeddedRedisExtension.class)
+class RateLimiterTest {
+
+    private StringRedisTemplate redisTemplate;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    public void setUp() {
+        redisTemplate = EmbeddedRedisExtension.createTemplate();
+        rateLimiter = new RateLimiter(redisTemplate);
+    }
+
+    @Test
+    public void requestsOverTheLimitAreRejected() {
+        assertTrue(rateLimiter.tryAcquire("email:a@b.c", 2, 60));
+        assertTrue(rateLimiter.tryAcquire("email:a@b.c", 2, 60));
+        assertFalse(rateLimiter.tryAcquire("email:a@b.c", 2, 60));
+        assertTrue(rateLimiter.tryAcquire("email:d@e.f", 2, 60));
+
+        Long ttl = redisTemplate.getExpire("rate_limit:email:a@b.c");
+        assertTrue(ttl != null && ttl > 0 && ttl <= 60);
+    }
+
+    @Test
+    public void concurrentRequestsAreCountedExactly() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Callable<Boolean> request = () -> rateLimiter.tryAcquire("ip:/auth:127.0.0.1", 20, 60);
+            long acquired = 0;
+            for (Future<Boolean> result : executor.invokeAll(IntStream.range(0, 100)
+                    .mapToObj(i -> request)
+                    .collect(Collectors.toList()))) {
+                if (result.get())
+                    acquired++;
+            }
+
+            assertEquals(20, acquired);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void filterLimitsOnlyListedEndpoints() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, 1, 60, Set.of());
+
+        filter.doFilter(request("POST", "/auth"), new MockHttpServletResponse(), new MockFilterChain());
+        assertThrows(TooManyRequestException.class, () ->
+                filter.doFilter(request("POST", "/auth"), new MockHttpServletResponse(), new MockFilterChain()));
+
+        filter.doFilter(request("POST", "/users/email/verify"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request("POST", "/schools"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request("POST", "/schools"), new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    @Test
+    public void otherMethodsOnLimitedPathsAreNotCounted() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, 1, 60, Set.of());
+
+        filter.doFilter(request("POST", "/auth"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request("PUT", "/auth"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request("PUT", "/auth"), new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    @Test
+    public void trailingSlashSharesTheLimit() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, 1, 60, Set.of());
+
+        filter.doFilter(request("POST", "/auth"), new MockHttpServletResponse(), new MockFilterChain());
+        assertThrows(TooManyRequestException.class, () ->
+                filter.doFilter(request("POST", "/auth/"), new MockHttpServletResponse(), new MockFilterChain()));
+    }
+
+    @Test
+    public void realIpHeaderIsIgnoredUnlessSetByTrustedProxy() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter, 1, 60, Set.of("10.0.0.1"));
+
+        filter.doFilter(request("POST", "/auth", "192.168.0.1", "1.1.1.1"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        assertThrows(TooManyRequestException.class, () -> filter.doFilter(request("POST", "/auth", "192.168.0.1", "2.2.2.2"),
+                new MockHttpServletResponse(), new MockFilterChain()));
+
+        filter.doFilter(request("POST", "/auth", "10.0.0.1", "1.1.1.1"),
+                new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(request("POST", "/auth", "10.0.0.1", "2.2.2.2"),
+                new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    private MockHttpServletRequest request(String method, String uri) {
+        return request(method, uri, "127.0.0.1", null);
+    }
+
+    private MockHttpServletRequest request(String method, String uri, String remoteAddr, String realIp) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setServletPath(uri);
+        request.setRemoteAddr(remoteAddr);
+        if (realIp != null)
+            request.addHeader("x-real-ip", realIp);
+        return request;
+    }
+
+}
@@ -0,0 +1,53 @@
+package hs.kr.entrydsm.husky.global.redis;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+// One embedded Redis for the whole test run, started before the first class that uses it and stopped after the last.
+// It runs before the Spring context is created, so Spring tests only need to point spring.redis.port at getPort().
+public class EmbeddedRedisExtension implements BeforeAllCallback {
+
+    private static final int PORT = 63791;
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(EmbeddedRedisExtension.class, key -> new Server(), Server.class);
+    }
+
+    public static int getPort() {
+        return PORT;
+    }
+
+    // For tests without a Spring context: a template on an emptied database.
+    public static StringRedisTemplate createTemplate() {
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        return redisTemplate;
+    }
+
+    private static class Server implements ExtensionContext.Store.CloseableResource {
+
+        private final RedisServer redisServer = new RedisServer(PORT);
+
+        private Server() {
+            redisServer.start();
+            connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", PORT));
+            connectionFactory.afterPropertiesSet();
+        }
+
+        @Override
+        public void close() {
+            connectionFactory.destroy();
+            redisServer.stop();
+        }
+
+    }
+
+}
@@ -0,0 +1,104 @@
+package hs.kr.entrydsm.husky.global.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hs.entrydsm.husky.domain.auth.exceptions.InvalidTokenException;
+import kr.hs.entrydsm.husky.global.config.security.AuthDetails;
+import kr.hs.entrydsm.husky.global.config.security.AuthenticationFacade;
+import kr.hs.entrydsm.husky.global.config.security.JwtTokenCache;
+import kr.hs.entrydsm.husky.global.config.security.JwtTokenProvider;
+import kr.hs.entrydsm.husky.global.config.security.ParsedToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtTokenProviderTest {
+
+    private MeterRegistry meterRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = new JwtTokenProvider(new JwtTokenCache(meterRegistry, 100),
+                "dGVzdA==", 3600L, 3600L, "Authorization", "Bearer");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void authenticationIsBuiltFromClaims() {
+        String token = jwtTokenProvider.generateAccessToken(100001);
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(jwtTokenProvider.parse(token));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        assertTrue(authentication.getPrincipal() instanceof AuthDetails);
+        assertEquals("100001", authentication.getName());
+        assertEquals(100001, new AuthenticationFacade().getReceiptCode());
+    }
+
+    @Test
+    public void tamperedTokenIsRejected() {
+        String token = jwtTokenProvider.generateAccessToken(100001);
+
+        assertThrows(InvalidTokenException.class, () -> jwtTokenProvider.parse(token + "x"));
+    }
+
+    @Test
+    public void verifiedTokenIsServedFromCache() {
+        String token = jwtTokenProvider.generateAccessToken(100001);
+
+        jwtTokenProvider.parse(token);
+        jwtTokenProvider.parse(token);
+
+        assertEquals(1, cacheGets("miss"));
+        assertEquals(1, cacheGets("hit"));
+    }
+
+    @Test
+    public void expiredTokenIsNotCached() {
+        String token = Jwts.builder()
+                .setSubject("100001")
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(SignatureAlgorithm.HS256, "dGVzdA==")
+                .compact();
+
+        assertThrows(InvalidTokenException.class, () -> jwtTokenProvider.parse(token));
+        assertThrows(InvalidTokenException.class, () -> jwtTokenProvider.parse(token));
+        assertEquals(2, cacheGets("miss"));
+    }
+
+    @Test
+    public void tokenSignedWithTheBase64SecretIsStillAccepted() {
+        String token = Jwts.builder()
+                .setSubject("100001")
+                .claim("type", "refresh_token")
+                .signWith(SignatureAlgorithm.HS256, "dGVzdA==")
+                .compact();
+
+        ParsedToken parsedToken = jwtTokenProvider.parse(token);
+
+        assertEquals(100001, parsedToken.getReceiptCode());
+        assertTrue(parsedToken.isRefreshToken());
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "jwt.cache").tag("result", result)
+                .functionCounter().count();
+    }
+
+}
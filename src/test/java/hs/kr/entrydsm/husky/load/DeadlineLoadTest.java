@@ -0,0 +1,318 @@
+package hs.kr.entrydsm.husky.load;
+
+import hs.kr.entrydsm.husky.global.redis.EmbeddedRedisExtension;
+import kr.hs.entrydsm.husky.HuskyApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.GraduatedApplication;
+import kr.hs.entrydsm.husky.domain.application.domain.repositories.GraduatedApplicationRepository;
+import kr.hs.entrydsm.husky.domain.image.service.ImageUrlService;
+import kr.hs.entrydsm.husky.domain.image.util.ImageResizer;
+import kr.hs.entrydsm.husky.domain.school.domain.School;
+import kr.hs.entrydsm.husky.domain.school.domain.repositories.SchoolRepository;
+import kr.hs.entrydsm.husky.domain.user.domain.Status;
+import kr.hs.entrydsm.husky.domain.user.domain.User;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.AdditionalType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.ApplyType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.GradeType;
+import kr.hs.entrydsm.husky.domain.user.domain.enums.Sex;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.StatusRepository;
+import kr.hs.entrydsm.husky.domain.user.domain.repositories.UserRepository;
+import kr.hs.entrydsm.husky.global.config.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+// Replays the final-submission deadline: every applicant edits their info and grades, previews the
+// application and submits it, all at once. Runs offline against H2, embedded Redis and fake AWS/Slack.
+// ./gradlew loadTest -Dload.applicants=1000 -Dload.concurrency=64
+@Tag("Load")
+@ExtendWith(EmbeddedRedisExtension.class)
+@SpringBootTest(classes = HuskyApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(FakeExternalServicesConfig.class)
+class DeadlineLoadTest {
+
+    private static final int APPLICANTS = Integer.getInteger("load.applicants", 300);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 32);
+    private static final int THINK_MILLIS = Integer.getInteger("load.think-millis", 300);
+    private static final Path REPORT = Paths.get(System.getProperty("load.report", "build/reports/load/deadline.txt"));
+
+    private static final String SCHOOL_CODE = "7031123";
+    private static final char[] GRADES = {'A', 'B', 'C', 'D', 'E'};
+
+    private static final FakeSlackWebhook slackWebhook = new FakeSlackWebhook();
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${auth.jwt.header}")
+    private String tokenHeader;
+
+    @Value("${auth.jwt.prefix}")
+    private String tokenPrefix;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StatusRepository statusRepository;
+
+    @Autowired
+    private SchoolRepository schoolRepository;
+
+    @Autowired
+    private GraduatedApplicationRepository graduatedApplicationRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private FakeAmazonS3 amazonS3;
+
+    // CloudFront URL signing needs the deployment key, which the load test has no use for.
+    @MockBean
+    private ImageUrlService imageUrlService;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final Random random = new Random(20201018L);
+
+    // EmbeddedRedisConfig starts Redis too late for the Redis repositories, so the extension starts it before the context.
+    @DynamicPropertySource
+    static void localServers(DynamicPropertyRegistry registry) {
+        slackWebhook.start();
+        registry.add("spring.redis.port", EmbeddedRedisExtension::getPort);
+        registry.add("slack.webhook.url", slackWebhook::getUrl);
+    }
+
+    @AfterAll
+    static void stopLocalServers() {
+        slackWebhook.stop();
+    }
+
+    @Test
+    public void deadlineDay() throws Exception {
+        given(imageUrlService.generateObjectUrl(anyString())).willAnswer(invocation ->
+                "https://image.entrydsm.hs.kr/" + invocation.getArgument(0));
+
+        List<List<Step>> sessions = new ArrayList<>();
+        for (User applicant : saveApplicants()) {
+            sessions.add(createSession(jwtTokenProvider.generateAccessToken(applicant.getReceiptCode())));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        long startedAt = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<Step> session : sessions) {
+                futures.add(executor.submit(() -> replay(session)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        // ExceptionHandlerFilter answers unexpected exceptions with an empty 200, so Slack is where they show up.
+        long submitted = statusRepository.findAll().stream().filter(Status::isFinalSubmit).count();
+        String report = String.format("%d applicants, %d concurrent sessions, %d ms think time, %.1f s%n%s%n" +
+                        "final submissions: %d/%d%nerrors reported to slack: %s%n",
+                APPLICANTS, CONCURRENCY, THINK_MILLIS, elapsed / 1e9, recorder.report(elapsed),
+                submitted, APPLICANTS, slackWebhook.getReceived());
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, report);
+
+        assertEquals(0, recorder.getServerErrors());
+        assertEquals(Map.of(), slackWebhook.getReceived());
+        assertEquals(APPLICANTS, submitted);
+    }
+
+    private Void replay(List<Step> session) throws IOException, InterruptedException {
+        for (Step step : session) {
+            Thread.sleep(step.thinkMillis);
+
+            HttpRequest request = step.request;
+            String endpoint = request.method() + " " + request.uri().getPath();
+            long startedAt = System.nanoTime();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            recorder.record(endpoint, System.nanoTime() - startedAt, response.statusCode());
+        }
+        return null;
+    }
+
+    // A few info and grade edits with a preview after each grade change, then the final submission.
+    private List<Step> createSession(String token) {
+        List<Step> session = new ArrayList<>();
+        for (int i = 0, edits = 1 + random.nextInt(3); i < edits; i++) {
+            session.add(step(patch(token, "/users/me", userInfoBody())));
+        }
+        for (int i = 0, edits = 1 + random.nextInt(2); i < edits; i++) {
+            session.add(step(patch(token, "/applications/me/score", scoreBody())));
+            session.add(step(request(token, "/grade/application/preview").GET().build()));
+        }
+        session.add(step(patch(token, "/users/me/status", "")));
+        return session;
+    }
+
+    // Think time is uniform around the configured mean, drawn up front so every run waits the same.
+    private Step step(HttpRequest request) {
+        return new Step(request, THINK_MILLIS == 0 ? 0 : random.nextInt(THINK_MILLIS * 2));
+    }
+
+    private HttpRequest patch(String token, String path, String body) {
+        return request(token, path)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String token, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .header(tokenHeader, tokenPrefix + " " + token);
+    }
+
+    private String userInfoBody() {
+        return String.format("{\"name\":\"지원자%d\",\"sex\":\"%s\",\"birth_date\":\"2005-03-14\"," +
+                        "\"student_number\":\"3%02d%02d\",\"school_code\":\"%s\",\"school_tel\":\"042-123-4567\"," +
+                        "\"parent_name\":\"보호자\",\"parent_tel\":\"010-8765-4321\",\"applicant_tel\":\"010-1234-%04d\"," +
+                        "\"address\":\"대전광역시 유성구 가정북로 76\",\"detail_address\":\"%d호\",\"post_code\":\"34111\"}",
+                random.nextInt(1000), random.nextBoolean() ? "MALE" : "FEMALE", 1 + random.nextInt(12),
+                1 + random.nextInt(30), SCHOOL_CODE, random.nextInt(10000), 100 + random.nextInt(900));
+    }
+
+    // Grades without X, so every year has a score and the final submission's score check passes.
+    private String scoreBody() {
+        return String.format("{\"volunteer_time\":%d,\"full_cut_count\":%d,\"period_cut_count\":%d," +
+                        "\"late_count\":%d,\"early_leave_count\":%d,\"korean\":\"%s\",\"social\":\"%s\"," +
+                        "\"history\":\"%s\",\"math\":\"%s\",\"science\":\"%s\",\"tech_and_home\":\"%s\",\"english\":\"%s\"}",
+                20 + random.nextInt(41), random.nextInt(2), random.nextInt(3), random.nextInt(4), random.nextInt(3),
+                grades(), grades(), grades(), grades(), grades(), grades(), grades());
+    }
+
+    private String grades() {
+        char[] grades = new char[6];
+        for (int semester = 0; semester < grades.length; semester++) {
+            grades[semester] = GRADES[random.nextInt(GRADES.length)];
+        }
+        return new String(grades);
+    }
+
+    // Everything except the fields the session edits is already filled in, as it is hours before the deadline.
+    private List<User> saveApplicants() throws IOException {
+        School school = schoolRepository.save(School.builder()
+                .schoolCode(SCHOOL_CODE)
+                .schoolName("대덕중학교")
+                .schoolFullName("대전대덕중학교")
+                .schoolAddress("대전광역시 대덕구")
+                .build());
+
+        byte[] photo = createPhoto();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            String photoName = "load-" + i + ".jpg";
+            amazonS3.put(photoName, photo);
+            amazonS3.put(ImageResizer.toPdfImageName(photoName), photo);
+
+            users.add(User.builder()
+                    .email("applicant" + i + "@load.test")
+                    .password("password")
+                    .applyType(ApplyType.values()[random.nextInt(ApplyType.values().length)])
+                    .additionalType(AdditionalType.NOT_APPLICABLE)
+                    .gradeType(GradeType.GRADUATED)
+                    .isDaejeon(random.nextBoolean())
+                    .name("지원자" + i)
+                    .sex(Sex.MALE)
+                    .birthDate(LocalDate.of(2005, 3, 14))
+                    .parentName("보호자")
+                    .parentTel("010-8765-4321")
+                    .applicantTel("010-1234-5678")
+                    .address("대전광역시 유성구 가정북로 76")
+                    .detailAddress("101호")
+                    .postCode("34111")
+                    .userPhoto(photoName)
+                    .selfIntroduction("소프트웨어 개발자가 되고 싶습니다. ".repeat(30))
+                    .studyPlan("입학 후에는 알고리즘과 웹 개발을 공부하겠습니다. ".repeat(30))
+                    .build());
+        }
+
+        List<User> saved = new ArrayList<>();
+        userRepository.saveAll(users).forEach(saved::add);
+
+        List<GraduatedApplication> applications = new ArrayList<>();
+        for (User user : saved) {
+            applications.add(GraduatedApplication.graduatedApplicationBuilder()
+                    .receiptCode(user.getReceiptCode())
+                    .studentNumber("30101")
+                    .school(school)
+                    .schoolTel("042-123-4567")
+                    .graduatedDate(LocalDate.of(2021, 2, 1))
+                    .build());
+        }
+        graduatedApplicationRepository.saveAll(applications);
+        return saved;
+    }
+
+    private static byte[] createPhoto() throws IOException {
+        BufferedImage image = new BufferedImage(300, 400, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, (x * 255 / image.getWidth()) << 16 | (y * 255 / image.getHeight()) << 8);
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static class Step {
+
+        private final HttpRequest request;
+        private final long thinkMillis;
+
+        private Step(HttpRequest request, long thinkMillis) {
+            this.request = request;
+            this.thinkMillis = thinkMillis;
+        }
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package hs.kr.entrydsm.husky.load;
+
+import com.amazonaws.services.simpleemail.AbstractAmazonSimpleEmailServiceAsync;
+import com.amazonaws.services.simpleemail.model.SendTemplatedEmailRequest;
+import com.amazonaws.services.simpleemail.model.SendTemplatedEmailResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Accepts every templated email without sending it.
+public class FakeAmazonSes extends AbstractAmazonSimpleEmailServiceAsync {
+
+    private final AtomicInteger sent = new AtomicInteger();
+
+    public int getSent() {
+        return sent.get();
+    }
+
+    @Override
+    public Future<SendTemplatedEmailResult> sendTemplatedEmailAsync(SendTemplatedEmailRequest request) {
+        sent.incrementAndGet();
+        return CompletableFuture.completedFuture(new SendTemplatedEmailResult().withMessageId("load-test"));
+    }
+
+}
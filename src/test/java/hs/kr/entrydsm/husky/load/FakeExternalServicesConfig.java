@@ -0,0 +1,22 @@
+package hs.kr.entrydsm.husky.load;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+@TestConfiguration
+public class FakeExternalServicesConfig {
+
+    @Bean
+    @Primary
+    public FakeAmazonS3 fakeAmazonS3() {
+        return new FakeAmazonS3();
+    }
+
+    @Bean
+    @Primary
+    public FakeAmazonSes fakeAmazonSes() {
+        return new FakeAmazonSes();
+    }
+
+}
@@ -0,0 +1,69 @@
+package hs.kr.entrydsm.husky.load;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Local stand-in for the Slack incoming webhook. Every message is an error the app reported,
+// counted by the request URI SlackSenderManager attaches to it.
+public class FakeSlackWebhook {
+
+    private static final Pattern REQUEST_URI = Pattern.compile("\"title\":\"Request URI\",\"value\":\"([^\"]*)\"");
+
+    private final HttpServer server;
+    private final Map<String, AtomicInteger> received = new ConcurrentHashMap<>();
+
+    public FakeSlackWebhook() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        server.createContext("/", exchange -> {
+            String message;
+            try (InputStream body = exchange.getRequestBody()) {
+                message = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            Matcher matcher = REQUEST_URI.matcher(message);
+            received.computeIfAbsent(matcher.find() ? matcher.group(1) : "unknown", uri -> new AtomicInteger())
+                    .incrementAndGet();
+
+            byte[] response = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/webhook";
+    }
+
+    public Map<String, Integer> getReceived() {
+        Map<String, Integer> counts = new TreeMap<>();
+        received.forEach((uri, count) -> counts.put(uri, count.get()));
+        return counts;
+    }
+
+}
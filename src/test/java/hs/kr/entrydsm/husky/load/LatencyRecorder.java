@@ -0,0 +1,73 @@
+package hs.kr.entrydsm.husky.load;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Collects every response time per endpoint and reports nearest-rank percentiles and throughput.
+public class LatencyRecorder {
+
+    private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long elapsedNanos, int status) {
+        Samples samples = endpoints.computeIfAbsent(endpoint, key -> new Samples());
+        samples.add(elapsedNanos);
+        if (status >= 500)
+            samples.serverErrors.incrementAndGet();
+        else if (status >= 400)
+            samples.clientErrors.incrementAndGet();
+    }
+
+    public int getServerErrors() {
+        return endpoints.values().stream()
+                .mapToInt(samples -> samples.serverErrors.get())
+                .sum();
+    }
+
+    public String report(long wallNanos) {
+        double seconds = wallNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        StringBuilder report = new StringBuilder(String.format("%-36s %7s %6s %6s %9s %9s %9s %10s%n",
+                "endpoint", "count", "4xx", "5xx", "p50(ms)", "p99(ms)", "max(ms)", "req/s"));
+
+        new TreeMap<>(endpoints).forEach((endpoint, samples) -> {
+            long[] sorted = samples.sorted();
+            report.append(String.format("%-36s %7d %6d %6d %9.1f %9.1f %9.1f %10.1f%n",
+                    endpoint, sorted.length, samples.clientErrors.get(), samples.serverErrors.get(),
+                    millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                    millis(sorted[sorted.length - 1]), sorted.length / seconds));
+        });
+        return report.toString();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class Samples {
+
+        private final AtomicInteger clientErrors = new AtomicInteger();
+        private final AtomicInteger serverErrors = new AtomicInteger();
+        private long[] values = new long[1024];
+        private int size;
+
+        private synchronized void add(long value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        private synchronized long[] sorted() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+    }
+
+}